@@ -0,0 +1,36 @@
+package com.petmate.bench;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 벤치마크 공통 입력 데이터 (src/jmh/resources/fixtures)
+ */
+public final class BenchmarkFixtures {
+
+    // 실제 업체 등록 화면에서 저장되는 형태의 제공 서비스 JSON
+    public static final String SERVICES_JSON = "{\"돌봄\":true,\"산책\":true,\"미용\":false,\"병원\":false,\"기타\":true}";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 영업시간 JSON (weekday, late-night, all-day, partial)
+     */
+    public static String operatingHours(String name) {
+        return resource("/fixtures/operating-hours/" + name + ".json");
+    }
+
+    private static String resource(String path) {
+        try (InputStream in = BenchmarkFixtures.class.getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalArgumentException("벤치마크 fixture 가 없습니다: " + path);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.petmate.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 근처 업체 조회 시 후보마다 호출되는 거리 계산
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DistanceCalculatorBenchmark {
+
+    private static final int POINTS = 1024;
+
+    private final double[] lats = new double[POINTS];
+    private final double[] lngs = new double[POINTS];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        // 서울 시내 좌표 범위
+        Random random = new Random(42);
+        for (int i = 0; i < POINTS; i++) {
+            lats[i] = 37.45 + random.nextDouble() * 0.2;
+            lngs[i] = 126.85 + random.nextDouble() * 0.3;
+        }
+    }
+
+    @Benchmark
+    public double calculateDistance() {
+        int i = cursor++ & (POINTS - 1);
+        return DistanceCalculatorUtil.calculateDistance(37.4979, 127.0276, lats[i], lngs[i]);
+    }
+}
@@ -0,0 +1,81 @@
+package com.petmate.domain.booking.service;
+
+import com.petmate.domain.booking.dto.OperatingHours;
+import com.petmate.domain.booking.dto.response.TimeSlotResponse;
+import com.petmate.domain.product.dto.response.ProductResponseDto;
+import com.petmate.domain.product.entity.AvailabilitySlotEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하루치 시간 슬롯 생성 (등록 슬롯 좌석 현황 반영 포함, DB 조회 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TimeSlotServiceBenchmark {
+
+    @Param({"30", "60", "120"})
+    public int durationMin;
+
+    @Param({"false", "true"})
+    public boolean withRegisteredSlots;
+
+    private TimeSlotService timeSlotService;
+    private ProductResponseDto product;
+    private OperatingHours dayHours;
+    private LocalDate date;
+    private List<AvailabilitySlotEntity> registered;
+
+    @Setup
+    public void setUp() {
+        // createTimeSlots 는 주입된 협력 객체를 사용하지 않음
+        timeSlotService = new TimeSlotService(null, null, null, null, null);
+        product = ProductResponseDto.builder()
+                .id(1)
+                .companyId(1)
+                .price(30000)
+                .allDay(0)
+                .durationMin(durationMin)
+                .isActive(1)
+                .build();
+        dayHours = OperatingHours.builder()
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(21, 0))
+                .closed(false)
+                .build();
+        date = LocalDate.now().plusDays(7); // 과거 슬롯 제외 로직이 결과를 줄이지 않도록 미래 날짜 사용
+
+        registered = new ArrayList<>();
+        if (withRegisteredSlots) {
+            for (LocalTime t = LocalTime.of(9, 0); !t.isAfter(LocalTime.of(20, 0)); t = t.plusMinutes(durationMin)) {
+                registered.add(AvailabilitySlotEntity.builder()
+                        .id(registered.size() + 1)
+                        .productId(1)
+                        .slotDate(date)
+                        .startDt(date.atTime(t))
+                        .endDt(date.atTime(t.plusMinutes(durationMin)))
+                        .capacity(3)
+                        .booked(registered.size() % 4)
+                        .build());
+            }
+        }
+    }
+
+    @Benchmark
+    public List<TimeSlotResponse> createTimeSlots() {
+        return timeSlotService.createTimeSlots(product, dayHours, date, registered);
+    }
+}
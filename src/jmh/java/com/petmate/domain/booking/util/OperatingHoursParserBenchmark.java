@@ -0,0 +1,59 @@
+package com.petmate.domain.booking.util;
+
+import com.petmate.bench.BenchmarkFixtures;
+import com.petmate.domain.booking.dto.OperatingHours;
+import com.petmate.domain.company.util.OperatingSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시간 슬롯 조회/예약 검증 시 호출되는 날짜별 운영시간 계산
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OperatingHoursParserBenchmark {
+
+    @Param({"weekday", "late-night", "all-day", "partial"})
+    public String fixture;
+
+    private final OperatingHoursParser parser = new OperatingHoursParser();
+    private final LocalDate[] week = new LocalDate[7];
+    private String json;
+    private OperatingSchedule schedule;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        json = BenchmarkFixtures.operatingHours(fixture);
+        schedule = OperatingSchedule.compile(json);
+        LocalDate monday = LocalDate.of(2025, 9, 1);
+        for (int i = 0; i < week.length; i++) {
+            week[i] = monday.plusDays(i);
+        }
+    }
+
+    @Benchmark
+    public OperatingHours parseJson() {
+        return parser.parseOperatingHours(json, nextDate());
+    }
+
+    @Benchmark
+    public OperatingHours parseCompiled() {
+        return parser.parseOperatingHours(schedule, nextDate());
+    }
+
+    private LocalDate nextDate() {
+        cursor = (cursor + 1) % week.length;
+        return week[cursor];
+    }
+}
@@ -0,0 +1,67 @@
+package com.petmate.domain.company.util;
+
+import com.petmate.bench.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업체 응답 매핑마다 호출되는 영업상태/오늘 영업시간/주간 일정 계산
+ * - json: 요청마다 JSON 을 파싱하는 경로, compiled: 캐시된 OperatingSchedule 경로
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BusinessHoursCalculatorBenchmark {
+
+    @Param({"weekday", "late-night", "all-day", "partial"})
+    public String fixture;
+
+    private String json;
+    private OperatingSchedule schedule;
+
+    @Setup
+    public void setUp() {
+        json = BenchmarkFixtures.operatingHours(fixture);
+        schedule = OperatingSchedule.compile(json);
+    }
+
+    @Benchmark
+    public Map<String, String> currentBusinessStatusJson() {
+        return BusinessHoursCalculator.calculateCurrentBusinessStatus(json);
+    }
+
+    @Benchmark
+    public Map<String, String> currentBusinessStatusCompiled() {
+        return BusinessHoursCalculator.calculateCurrentBusinessStatus(schedule);
+    }
+
+    @Benchmark
+    public String todayHoursJson() {
+        return BusinessHoursCalculator.calculateTodayHours(json);
+    }
+
+    @Benchmark
+    public String todayHoursCompiled() {
+        return BusinessHoursCalculator.calculateTodayHours(schedule);
+    }
+
+    @Benchmark
+    public List<Map<String, String>> weeklyScheduleJson() {
+        return BusinessHoursCalculator.calculateWeeklySchedule(json);
+    }
+
+    @Benchmark
+    public List<Map<String, String>> weeklyScheduleCompiled() {
+        return BusinessHoursCalculator.calculateWeeklySchedule(schedule);
+    }
+}
@@ -0,0 +1,31 @@
+package com.petmate.domain.company.util;
+
+import com.petmate.bench.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업체 응답 매핑마다 호출되는 제공 서비스 JSON 파싱
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ServiceParserBenchmark {
+
+    @Benchmark
+    public List<String> parseServices() {
+        return ServiceParser.parseServices(BenchmarkFixtures.SERVICES_JSON, "1");
+    }
+
+    @Benchmark
+    public List<String> parseServicesFallbackToRepService() {
+        return ServiceParser.parseServices(null, "3");
+    }
+}
@@ -0,0 +1,106 @@
+package com.petmate.security;
+
+import com.petmate.domain.auth.service.SessionManagementService;
+import com.petmate.security.jwt.JwtBenchmarkSupport;
+import com.petmate.security.jwt.JwtUtil;
+import com.petmate.security.jwt.VerifiedTokenCache;
+import com.petmate.security.trace.AuthTraceRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행되는 JWT 인증 필터 1회 통과 (세션 활동 기록은 no-op 스텁, 추적은 비활성 기본값)
+ * - cached: 검증 캐시 적중 (일반적인 반복 요청)
+ * - uncached: 매 요청 서명 검증 (캐시 미사용)
+ * - expired / noToken / public: 토큰 만료, 토큰 없음, 공개 경로 우회
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"cached", "uncached", "expired", "noToken", "public"})
+    public String scenario;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = JwtBenchmarkSupport.jwtUtil();
+        VerifiedTokenCache cache = "uncached".equals(scenario) ? new NoOpVerifiedTokenCache() : new VerifiedTokenCache(10_000);
+        AuthTraceRecorder recorder = new AuthTraceRecorder(new SimpleMeterRegistry(), false, 1.0, 1024);
+        filter = new JwtAuthenticationFilter(jwtUtil, new NoOpSessionManagementService(), cache, recorder);
+
+        request = new MockHttpServletRequest("GET", "public".equals(scenario) ? "/api/companies" : "/api/booking/my");
+        request.setRemoteAddr("127.0.0.1");
+        switch (scenario) {
+            case "cached", "uncached" -> request.addHeader("Authorization", "Bearer "
+                    + jwtUtil.issue("1", JwtBenchmarkSupport.ACCESS_TTL_MS, JwtBenchmarkSupport.accessClaims()));
+            case "expired" -> request.addHeader("Authorization", "Bearer "
+                    + jwtUtil.issue("1", -1_000L, JwtBenchmarkSupport.accessClaims()));
+            default -> {
+            }
+        }
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object doFilter() throws ServletException, IOException {
+        try {
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilterInternal(request, response, chain);
+            return chain.getRequest();
+        } finally {
+            // 다음 호출이 ALREADY_AUTHENTICATED 로 빠지지 않도록 매번 초기화
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * 세션 활동 기록 스텁 (버퍼/DB 협력 객체 없이 호출만 받음)
+     */
+    private static final class NoOpSessionManagementService extends SessionManagementService {
+        NoOpSessionManagementService() {
+            super(null, null, null);
+        }
+
+        @Override
+        public void updateSessionActivityByUserId(Long userId) {
+        }
+    }
+
+    /**
+     * 항상 미스인 검증 캐시 (매 요청 파싱/서명 검증 경로 측정용)
+     */
+    private static final class NoOpVerifiedTokenCache extends VerifiedTokenCache {
+        NoOpVerifiedTokenCache() {
+            super(1);
+        }
+
+        @Override
+        public VerifiedToken get(String token) {
+            return null;
+        }
+
+        @Override
+        public void put(String token, VerifiedToken verified) {
+        }
+    }
+}
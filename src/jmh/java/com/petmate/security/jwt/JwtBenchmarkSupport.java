@@ -0,0 +1,32 @@
+package com.petmate.security.jwt;
+
+import java.util.Map;
+
+/**
+ * JWT 벤치마크 공통 준비 (init 은 package-private 이라 같은 패키지에서 생성)
+ */
+public final class JwtBenchmarkSupport {
+
+    // HS256 최소 길이(32바이트) 이상의 벤치마크 전용 키
+    private static final String SECRET = "petmate-benchmark-secret-key-0123456789abcdef";
+    public static final long ACCESS_TTL_MS = 60 * 60 * 1000L;
+
+    private JwtBenchmarkSupport() {
+    }
+
+    public static JwtUtil jwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, ACCESS_TTL_MS, 14 * 24 * 60 * 60 * 1000L, "petmate");
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    /**
+     * 로그인 시 발급되는 형태의 access 토큰 claims (전체 필드)
+     */
+    public static Map<String, Object> accessClaims() {
+        return JwtClaimAccessor.accessClaims(
+                "kakao", "user@petmate.kr", "홍길동", "길동이",
+                "http://localhost:8090/img/profile/1.png", "4",
+                "1990-01-01", "M", "010-1234-5678");
+    }
+}
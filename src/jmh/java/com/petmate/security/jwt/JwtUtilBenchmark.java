@@ -0,0 +1,68 @@
+package com.petmate.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/파싱/만료 확인 및 claims 구성 (할당량은 gc 프로파일러 결과 참고)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private Map<String, Object> claims;
+    private String accessToken;
+    private String expiredToken;
+    private Claims parsedClaims;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = JwtBenchmarkSupport.jwtUtil();
+        claims = JwtBenchmarkSupport.accessClaims();
+        accessToken = jwtUtil.issue("1", JwtBenchmarkSupport.ACCESS_TTL_MS, claims);
+        expiredToken = jwtUtil.issue("1", -1_000L, claims);
+        parsedClaims = jwtUtil.parse(accessToken);
+    }
+
+    @Benchmark
+    public String issue() {
+        return jwtUtil.issue("1", JwtBenchmarkSupport.ACCESS_TTL_MS, claims);
+    }
+
+    @Benchmark
+    public Claims parse() {
+        return jwtUtil.parse(accessToken);
+    }
+
+    @Benchmark
+    public boolean isExpired() {
+        return jwtUtil.isExpired(accessToken);
+    }
+
+    // 만료 토큰은 ExpiredJwtException 생성 비용까지 포함
+    @Benchmark
+    public boolean isExpiredOnExpiredToken() {
+        return jwtUtil.isExpired(expiredToken);
+    }
+
+    @Benchmark
+    public Map<String, Object> accessClaims() {
+        return JwtBenchmarkSupport.accessClaims();
+    }
+
+    @Benchmark
+    public String role() {
+        return JwtClaimAccessor.role(parsedClaims);
+    }
+}
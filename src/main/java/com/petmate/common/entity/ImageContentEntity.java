@@ -0,0 +1,49 @@
+package com.petmate.common.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소 S3 객체 목록 (내용 해시당 1행)
+ * - 같은 내용의 업로드/정리 작업은 이 행을 잠가서 순서를 맞춤
+ * - LAST_USED_AT 이후 유예 기간 동안은 참조가 없어도 S3 객체를 지우지 않음
+ */
+@Entity
+@Table(name = "IMAGE_CONTENT", indexes = {
+        @Index(name = "idx_image_content_last_used", columnList = "LAST_USED_AT")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageContentEntity {
+
+    @Id
+    @Column(name = "CONTENT_HASH", length = 64)
+    @Comment("파일 내용 해시 (SHA-256)")
+    private String contentHash; // 내용 해시
+
+    @Column(name = "STORED_NAME", nullable = false, length = 255)
+    @Comment("S3 key (cas/{해시}.{확장자})")
+    private String storedName; // S3 key
+
+    @Column(name = "VARIANT_KEYS", length = 1000)
+    @Comment("축소 변형 이미지 key (JSON, 가로 크기 -> key)")
+    private String variantKeys; // 변형 이미지 key
+
+    @Column(name = "READY", nullable = false, length = 1)
+    @Comment("S3 저장 완료 여부 (Y/N, N 이면 다음 업로드가 다시 저장)")
+    private String ready; // 저장 완료 여부
+
+    @Column(name = "LAST_USED_AT", nullable = false)
+    @Comment("마지막 업로드(재사용 포함) 시각")
+    private LocalDateTime lastUsedAt; // 마지막 사용 시각
+}
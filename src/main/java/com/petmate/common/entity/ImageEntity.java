@@ -13,7 +13,10 @@ import org.hibernate.annotations.Comment;
  * 사용자, 펫, 업체, 자격증 등 모든 이미지를 관리
  */
 @Entity
-@Table(name = "IMAGE")
+@Table(name = "IMAGE", indexes = {
+        @Index(name = "idx_image_stored_name", columnList = "STORED_NAME"),
+        @Index(name = "idx_image_content_hash", columnList = "CONTENT_HASH, STATUS")
+})
 @Getter
 @Setter
 @Builder
@@ -78,5 +81,13 @@ public class ImageEntity extends BaseEntity {
     @Comment("이미지 설명")
     private String description; // 이미지 설명
 
+    @Column(name = "VARIANT_KEYS", length = 1000)
+    @Comment("축소 변형 이미지 key (JSON, 가로 크기 -> key)")
+    private String variantKeys; // 변형 이미지 key
+
+    @Column(name = "CONTENT_HASH", length = 64)
+    @Comment("파일 내용 해시 (SHA-256, 같은 내용이면 S3 객체 공유)")
+    private String contentHash; // 내용 해시
+
     // created_at, updated_at은 BaseEntity에서 자동 관리됩니다!
 }
\ No newline at end of file
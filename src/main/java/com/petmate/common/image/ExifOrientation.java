@@ -0,0 +1,111 @@
+package com.petmate.common.image;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * JPEG EXIF 방향(0x0112) 처리
+ * - ImageIO 는 EXIF 방향을 무시하므로, 휴대폰 사진은 변형 이미지 생성 전에 직접 회전/반전해야 함
+ */
+final class ExifOrientation {
+
+    private static final int TAG_ORIENTATION = 0x0112;
+
+    private ExifOrientation() {
+    }
+
+    /**
+     * @return 1~8 (정보가 없거나 JPEG 가 아니면 1)
+     */
+    static int read(byte[] jpeg) {
+        if (jpeg.length < 4 || (jpeg[0] & 0xFF) != 0xFF || (jpeg[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+        int pos = 2;
+        while (pos + 4 <= jpeg.length && (jpeg[pos] & 0xFF) == 0xFF) {
+            int marker = jpeg[pos + 1] & 0xFF;
+            int length = u16(jpeg, pos + 2, false);
+            if (marker == 0xDA || length < 2) { // 이미지 데이터 시작 -> 더 이상 메타데이터 없음
+                return 1;
+            }
+            if (marker == 0xE1 && isExif(jpeg, pos + 4)) {
+                return readTiffOrientation(jpeg, pos + 10, Math.min(jpeg.length, pos + 2 + length));
+            }
+            pos += 2 + length;
+        }
+        return 1;
+    }
+
+    /**
+     * 방향 값에 맞게 회전/반전한 이미지 (1 이면 원본 그대로)
+     */
+    static BufferedImage apply(BufferedImage image, int orientation) {
+        if (orientation < 2 || orientation > 8) {
+            return image;
+        }
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);   // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);  // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);   // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // 전치
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);   // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);  // 역전치
+            default -> new AffineTransform(0, -1, 1, 0, 0, w);  // 8: 반시계 방향 90도
+        };
+        boolean swap = orientation >= 5;
+        BufferedImage rotated = new BufferedImage(swap ? h : w, swap ? w : h,
+                image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rotated.createGraphics();
+        try {
+            g.drawImage(image, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return rotated;
+    }
+
+    private static boolean isExif(byte[] b, int pos) {
+        return pos + 6 <= b.length
+                && b[pos] == 'E' && b[pos + 1] == 'x' && b[pos + 2] == 'i' && b[pos + 3] == 'f'
+                && b[pos + 4] == 0 && b[pos + 5] == 0;
+    }
+
+    private static int readTiffOrientation(byte[] b, int tiff, int end) {
+        if (tiff + 8 > end) {
+            return 1;
+        }
+        boolean little = b[tiff] == 'I' && b[tiff + 1] == 'I';
+        long ifdOffset = u32(b, tiff + 4, little);
+        int ifd = tiff + (int) ifdOffset;
+        if (ifdOffset < 8 || ifd + 2 > end) {
+            return 1;
+        }
+        int entries = u16(b, ifd, little);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                return 1;
+            }
+            if (u16(b, entry, little) == TAG_ORIENTATION) {
+                int value = u16(b, entry + 8, little);
+                return value >= 1 && value <= 8 ? value : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int u16(byte[] b, int pos, boolean little) {
+        int b0 = b[pos] & 0xFF;
+        int b1 = b[pos + 1] & 0xFF;
+        return little ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static long u32(byte[] b, int pos, boolean little) {
+        long hi = u16(b, little ? pos + 2 : pos, little);
+        long lo = u16(b, little ? pos : pos + 2, little);
+        return (hi << 16) | lo;
+    }
+}
@@ -0,0 +1,133 @@
+package com.petmate.common.image;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 업로드 이미지의 축소 변형 생성 (목록/카드/아바타용)
+ * - 가로 기준 축소, 원본보다 크게 늘리지 않음 (원본이 작으면 원본 크기로 재인코딩)
+ * - 투명도가 있으면 PNG, 없으면 JPEG 로 재인코딩
+ * - ImageIO 가 읽지 못하는 형식(webp 등)이나 지나치게 큰 이미지는 변형 없이 빈 목록
+ */
+public final class ImageVariantGenerator {
+
+    private static final long MAX_PIXELS = 50_000_000L; // 디코딩 메모리 상한 (약 200MB)
+
+    private ImageVariantGenerator() {
+    }
+
+    /**
+     * @param widths 생성할 가로 크기 목록
+     * @return 가로 크기 오름차순 변형 목록
+     */
+    public static List<ImageVariant> generate(byte[] original, int[] widths, float jpegQuality) throws IOException {
+        BufferedImage source = decode(original);
+        if (source == null || widths.length == 0) {
+            return List.of();
+        }
+        source = ExifOrientation.apply(source, ExifOrientation.read(original));
+
+        boolean alpha = source.getColorModel().hasAlpha();
+        String extension = alpha ? "png" : "jpg";
+        String contentType = alpha ? "image/png" : "image/jpeg";
+
+        int[] sorted = Arrays.stream(widths).filter(w -> w > 0).distinct().sorted().toArray();
+        List<ImageVariant> variants = new ArrayList<>(sorted.length);
+        BufferedImage current = source;
+        // 큰 크기부터 만들어 직전 결과를 다음 축소의 입력으로 재사용
+        for (int i = sorted.length - 1; i >= 0; i--) {
+            int width = sorted[i];
+            current = resize(current, Math.min(width, source.getWidth()), alpha);
+            variants.add(new ImageVariant(width, encode(current, alpha, jpegQuality), extension, contentType));
+        }
+        Collections.reverse(variants);
+        return variants;
+    }
+
+    private static BufferedImage decode(byte[] original) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(original))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 목표 가로 크기로 축소 (2배 이상 줄일 때는 절반씩 단계적으로 줄여 계단 현상 방지)
+     */
+    private static BufferedImage resize(BufferedImage image, int targetWidth, boolean alpha) {
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = image;
+        do {
+            int width = Math.max(targetWidth, current.getWidth() / 2);
+            if (width == current.getWidth() && current.getType() == type) {
+                return current;
+            }
+            int height = Math.max(1, Math.round((float) current.getHeight() * width / current.getWidth()));
+            BufferedImage scaled = new BufferedImage(width, height, type);
+            Graphics2D g = scaled.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = scaled;
+        } while (current.getWidth() > targetWidth);
+        return current;
+    }
+
+    private static byte[] encode(BufferedImage image, boolean alpha, float jpegQuality) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (alpha) {
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @param width 요청된 변형 가로 크기 (실제 픽셀은 원본보다 크지 않음)
+     */
+    public record ImageVariant(int width, byte[] bytes, String extension, String contentType) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.petmate.common.image;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 변형 이미지 key 규칙 및 IMAGE.VARIANT_KEYS({"128":"...","512":"..."}) 변환
+ */
+public final class ImageVariants {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final TypeReference<TreeMap<Integer, String>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private ImageVariants() {
+    }
+
+    /**
+     * 원본 key 에서 파생한 변형 key (예: pets/38/abc.png -> pets/38/abc_w512.jpg)
+     */
+    public static String keyFor(String originalKey, int width, String extension) {
+        int dot = originalKey.lastIndexOf('.');
+        String base = dot > originalKey.lastIndexOf('/') ? originalKey.substring(0, dot) : originalKey;
+        return base + "_w" + width + "." + extension;
+    }
+
+    public static String toJson(Map<Integer, String> variants) {
+        if (variants == null || variants.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(new TreeMap<>(variants));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return 가로 크기 오름차순 (값이 없거나 형식이 잘못되었으면 빈 맵)
+     */
+    public static Map<Integer, String> parse(String json) {
+        if (json == null || json.isBlank()) {
+            return Collections.emptyMap();
+        }
+        try {
+            return objectMapper.readValue(json, MAP_TYPE);
+        } catch (Exception e) {
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * 요청 크기 이상인 가장 작은 변형 key (size 가 없거나 모든 변형보다 크면 원본 key)
+     */
+    public static String select(String originalKey, String variantKeysJson, Integer size) {
+        if (size == null || size <= 0) {
+            return originalKey;
+        }
+        for (Map.Entry<Integer, String> variant : parse(variantKeysJson).entrySet()) {
+            if (variant.getKey() >= size) {
+                return variant.getValue();
+            }
+        }
+        return originalKey;
+    }
+
+    /**
+     * 원본 + 변형 key 전체 (S3 삭제용)
+     */
+    public static List<String> allKeys(String originalKey, String variantKeysJson) {
+        List<String> keys = new ArrayList<>();
+        if (originalKey != null) {
+            keys.add(originalKey);
+        }
+        keys.addAll(parse(variantKeysJson).values());
+        return keys;
+    }
+}
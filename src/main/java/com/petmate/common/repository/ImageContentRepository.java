@@ -0,0 +1,44 @@
+package com.petmate.common.repository;
+
+import com.petmate.common.entity.ImageContentEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 내용 주소 S3 객체 Repository
+ */
+@Repository
+public interface ImageContentRepository extends JpaRepository<ImageContentEntity, String> {
+
+    /**
+     * 내용 해시 행이 없으면 생성 (동시에 같은 해시를 생성해도 1행만 남음)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO IMAGE_CONTENT (CONTENT_HASH, STORED_NAME, READY, LAST_USED_AT) VALUES (:contentHash, :storedName, 'N', :now)", nativeQuery = true)
+    int insertIfAbsent(@Param("contentHash") String contentHash, @Param("storedName") String storedName, @Param("now") LocalDateTime now);
+
+    /**
+     * 내용 해시 행 잠금 조회 (SELECT ... FOR UPDATE, 해시 순서로 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ImageContentEntity c WHERE c.contentHash IN :contentHashes ORDER BY c.contentHash ASC")
+    List<ImageContentEntity> findAllForUpdate(@Param("contentHashes") Collection<String> contentHashes);
+
+    /**
+     * 정리 대상 후보 (유예 기간 동안 사용되지 않았고 활성 이미지가 참조하지 않는 내용)
+     */
+    @Query("SELECT c.contentHash FROM ImageContentEntity c WHERE c.lastUsedAt < :before " +
+            "AND NOT EXISTS (SELECT i.id FROM ImageEntity i WHERE i.contentHash = c.contentHash AND i.status = 'A') " +
+            "ORDER BY c.lastUsedAt ASC")
+    List<String> findUnusedContentHashes(@Param("before") LocalDateTime before, Pageable pageable);
+}
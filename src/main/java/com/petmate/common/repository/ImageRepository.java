@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +40,22 @@ public interface ImageRepository extends JpaRepository<ImageEntity, Long> {
      */
     Optional<ImageEntity> findByStoredNameAndStatus(String storedName, String status);
 
+    /**
+     * 저장된 파일명으로 이미지 1건 조회 (같은 파일을 참조하는 행이 여러 개여도 안전)
+     */
+    Optional<ImageEntity> findFirstByStoredNameAndStatus(String storedName, String status);
+
+    /**
+     * 내용 해시를 참조하는 활성 이미지 존재 여부 (내용 주소 객체 정리용)
+     */
+    boolean existsByContentHashAndStatus(String contentHash, String status);
+
+    /**
+     * 주어진 저장 파일명 중 아직 활성 이미지가 참조하는 것 (S3 객체 참조 카운트용)
+     */
+    @Query("SELECT DISTINCT i.storedName FROM ImageEntity i WHERE i.storedName IN :storedNames AND i.status = 'A'")
+    List<String> findActiveStoredNames(@Param("storedNames") Collection<String> storedNames);
+
     /**
      * 특정 참조 타입과 참조 ID로 이미지 개수 조회 (활성 상태만)
      */
@@ -51,6 +68,12 @@ public interface ImageRepository extends JpaRepository<ImageEntity, Long> {
     @Query("SELECT COALESCE(MAX(i.displayOrder), 0) FROM ImageEntity i WHERE i.referenceType = :referenceType AND i.referenceId = :referenceId AND i.status = 'A'")
     Integer findMaxDisplayOrderByReference(@Param("referenceType") String referenceType, @Param("referenceId") String referenceId);
 
+    /**
+     * 특정 참조 ID들의 활성 이미지 목록 조회 (배치 조회용, 참조 ID/표시 순서대로)
+     */
+    @Query("SELECT i FROM ImageEntity i WHERE i.referenceType = :referenceType AND i.referenceId IN :referenceIds AND i.status = 'A' ORDER BY i.referenceId ASC, i.displayOrder ASC")
+    List<ImageEntity> findActiveImagesByReferenceIds(@Param("referenceType") String referenceType, @Param("referenceIds") List<String> referenceIds);
+
     /**
      * 특정 참조 ID들의 썸네일 이미지들 조회 (배치 조회용)
      */
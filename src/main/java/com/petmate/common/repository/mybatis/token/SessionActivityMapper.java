@@ -0,0 +1,18 @@
+package com.petmate.common.repository.mybatis.token;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Mapper
+public interface SessionActivityMapper {
+
+    /**
+     * 사용자별 마지막 접근 시간 일괄 반영 (userId -> lastAccessedAt)
+     * - inactiveSince 이전에 이미 비활성화된 토큰은 갱신하지 않음
+     */
+    int updateLastAccessedAt(@Param("activities") Map<Long, LocalDateTime> activities,
+                             @Param("inactiveSince") LocalDateTime inactiveSince);
+}
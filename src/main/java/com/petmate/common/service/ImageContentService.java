@@ -0,0 +1,152 @@
+package com.petmate.common.service;
+
+import com.petmate.common.entity.ImageContentEntity;
+import com.petmate.common.image.ImageVariants;
+import com.petmate.common.repository.ImageContentRepository;
+import com.petmate.common.repository.ImageRepository;
+import com.petmate.common.util.S3FileService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 내용 주소(cas/{sha256}) S3 객체 수명 관리
+ * - 업로드(재사용 포함)는 해시 행을 잠그고 LAST_USED_AT 갱신 후 커밋 (호출측 트랜잭션과 분리)
+ * - 요청 처리 중에는 S3 객체를 지우지 않음 (업로드 실패/이미지 삭제 포함)
+ * - 정리 작업이 유예 기간 동안 사용되지 않고 활성 이미지가 참조하지 않는 객체만 해시 행을 잠근 상태에서 삭제
+ *   -> 재사용/재업로드와 삭제가 같은 해시에 대해 동시에 진행되지 않음
+ */
+@Slf4j
+@Service
+public class ImageContentService {
+
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final ImageContentRepository imageContentRepository;
+    private final ImageRepository imageRepository;
+    private final S3FileService s3FileService;
+    private final TransactionTemplate requiresNew;
+    private final Duration grace;
+
+    public ImageContentService(ImageContentRepository imageContentRepository,
+                               ImageRepository imageRepository,
+                               S3FileService s3FileService,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.image.content.sweep-grace-hours:24}") long graceHours) {
+        this.imageContentRepository = imageContentRepository;
+        this.imageRepository = imageRepository;
+        this.s3FileService = s3FileService;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.grace = Duration.ofHours(graceHours);
+    }
+
+    /**
+     * 업로드할 내용 등록/사용 표시 (해시 -> 제안 key, 이미 있는 해시는 기존 key 유지)
+     * - READY=Y 인 행은 S3 객체가 있으므로 재사용, N 이면 반환된 key 로 다시 저장
+     * - LAST_USED_AT 을 갱신하므로 유예 기간 동안 정리 작업이 삭제하지 않음
+     */
+    public Map<String, ImageContentEntity> acquire(Map<String, String> storedNameByHash) {
+        Map<String, String> sorted = new TreeMap<>(storedNameByHash); // 잠금 순서 고정 (교착 방지)
+        return requiresNew.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            sorted.forEach((hash, storedName) -> imageContentRepository.insertIfAbsent(hash, storedName, now));
+
+            List<ImageContentEntity> contents = imageContentRepository.findAllForUpdate(sorted.keySet());
+            contents.forEach(content -> content.setLastUsedAt(now));
+            return contents.stream()
+                    .collect(Collectors.toMap(ImageContentEntity::getContentHash, Function.identity()));
+        });
+    }
+
+    /**
+     * 원본/변형 저장 완료 표시 (해시 -> VARIANT_KEYS JSON)
+     */
+    public void markReady(Map<String, String> variantKeysByHash) {
+        if (variantKeysByHash.isEmpty()) {
+            return;
+        }
+        requiresNew.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (ImageContentEntity content : imageContentRepository.findAllForUpdate(new TreeMap<>(variantKeysByHash).keySet())) {
+                content.setVariantKeys(variantKeysByHash.get(content.getContentHash()));
+                content.setReady("Y");
+                content.setLastUsedAt(now);
+            }
+        });
+    }
+
+    /**
+     * 사용되지 않는 내용 주소 객체 정리
+     */
+    @Scheduled(fixedDelayString = "${app.image.content.sweep-minutes:60}", initialDelayString = "${app.image.content.sweep-minutes:60}",
+            timeUnit = TimeUnit.MINUTES)
+    public void sweep() {
+        try {
+            LocalDateTime before = LocalDateTime.now().minus(grace);
+            List<String> candidates = imageContentRepository.findUnusedContentHashes(before, PageRequest.of(0, SWEEP_BATCH_SIZE));
+
+            int deleted = 0;
+            for (String contentHash : candidates) {
+                if (sweep(contentHash, before)) {
+                    deleted++;
+                }
+            }
+            if (deleted > 0) {
+                log.info("사용되지 않는 내용 주소 이미지 정리: {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.error("내용 주소 이미지 정리 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 해시 1건 정리
+     * 1) 잠금 후 재확인, READY=N 으로 커밋 (이후 S3 삭제가 중간에 실패해도 다음 업로드가 다시 저장)
+     * 2) 다시 잠금 후 그 사이 사용되지 않았으면 S3 삭제 -> 행 삭제 (잠금을 쥔 채로 삭제)
+     */
+    private boolean sweep(String contentHash, LocalDateTime before) {
+        Boolean marked = requiresNew.execute(status -> lockUnused(contentHash, before)
+                .map(content -> {
+                    content.setReady("N");
+                    return true;
+                })
+                .orElse(false));
+        if (!Boolean.TRUE.equals(marked)) {
+            return false;
+        }
+
+        return Boolean.TRUE.equals(requiresNew.execute(status -> lockUnused(contentHash, before)
+                .map(content -> {
+                    // S3 삭제가 일부라도 실패하면 행을 남겨 다음 주기에 다시 시도 (READY=N 이라 재사용되지 않음)
+                    if (!s3FileService.deleteFiles(ImageVariants.allKeys(content.getStoredName(), content.getVariantKeys()))) {
+                        return false;
+                    }
+                    imageContentRepository.delete(content);
+                    return true;
+                })
+                .orElse(false)));
+    }
+
+    private Optional<ImageContentEntity> lockUnused(String contentHash, LocalDateTime before) {
+        return imageContentRepository.findAllForUpdate(List.of(contentHash)).stream()
+                .filter(content -> content.getLastUsedAt().isBefore(before))
+                .filter(content -> !imageRepository.existsByContentHashAndStatus(contentHash, "A"))
+                .findFirst();
+    }
+}
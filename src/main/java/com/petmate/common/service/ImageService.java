@@ -1,21 +1,34 @@
 package com.petmate.common.service;
 
+import com.petmate.common.entity.ImageContentEntity;
 import com.petmate.common.entity.ImageEntity;
+import com.petmate.common.image.ImageVariants;
 import com.petmate.common.repository.ImageRepository;
 import com.petmate.common.util.S3FileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 이미지 관리 서비스
@@ -28,6 +41,9 @@ public class ImageService {
 
     private final ImageRepository imageRepository;
     private final S3FileService s3FileService;
+    private final ImageVariantService imageVariantService;
+    private final ImageContentService imageContentService;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${aws.s3.bucket}")
     private String bucketName;
@@ -35,141 +51,123 @@ public class ImageService {
     /**
      * 단일 이미지 업로드
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ImageEntity uploadSingleImage(MultipartFile file, String imageTypeCode, String referenceId, boolean isThumbnail) throws IOException {
         return uploadSingleImage(file, imageTypeCode, referenceId, isThumbnail, null, null);
     }
 
     /**
      * 단일 이미지 업로드 (설명 포함)
+     * - S3 업로드는 트랜잭션 밖에서 수행, 엔티티는 짧은 트랜잭션 1회로 저장 (uploadMultipleImages 와 동일)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ImageEntity uploadSingleImage(MultipartFile file, String imageTypeCode, String referenceId, 
                                        boolean isThumbnail, String altText, String description) throws IOException {
         
         validateBasicParams(imageTypeCode, referenceId);
         
-        // S3에 파일 업로드
-        String s3Key = s3FileService.uploadSingleImage(file, imageTypeCode);
-        
-        // 표시 순서 계산
-        Integer maxOrder = imageRepository.findMaxDisplayOrderByReference(imageTypeCode, referenceId);
-        Integer nextOrder = (maxOrder != null) ? maxOrder + 1 : 1;
-        
-        // 썸네일 설정 시 기존 썸네일 해제
-        if (isThumbnail) {
-            imageRepository.clearAllThumbnails(imageTypeCode, referenceId);
-        }
-        
-        // 이미지 엔티티 생성 (S3)
-        ImageEntity imageEntity = ImageEntity.builder()
-                .referenceType(imageTypeCode)
-                .referenceId(referenceId)
-                .originalName(file.getOriginalFilename())
-                .storedName(s3Key)  // S3에서는 key가 stored name
-                .filePath(s3Key)    // S3에서는 key가 file path
-                .fileSize(file.getSize())
-                .fileExtension(getFileExtension(file.getOriginalFilename()))
-                .mimeType(file.getContentType())
-                .displayOrder(nextOrder)
-                .isThumbnail(isThumbnail ? "Y" : "N")
-                .status("A")
-                .altText(altText)
-                .description(description)
-                .build();
-        
-        return imageRepository.save(imageEntity);
+        // S3에 파일 업로드 + 축소 변형 생성 (같은 내용이 이미 있으면 기존 객체 재사용)
+        StoredContents stored = storeContents(List.of(file));
+        String s3Key = stored.s3Keys().get(0);
+
+        return saveUploadedImages(stored, status -> {
+            // 표시 순서 계산
+            Integer maxOrder = imageRepository.findMaxDisplayOrderByReference(imageTypeCode, referenceId);
+            Integer nextOrder = (maxOrder != null) ? maxOrder + 1 : 1;
+
+            // 썸네일 설정 시 기존 썸네일 해제
+            if (isThumbnail) {
+                imageRepository.clearAllThumbnails(imageTypeCode, referenceId);
+            }
+
+            // 이미지 엔티티 생성 (S3)
+            ImageEntity imageEntity = ImageEntity.builder()
+                    .referenceType(imageTypeCode)
+                    .referenceId(referenceId)
+                    .originalName(file.getOriginalFilename())
+                    .storedName(s3Key)  // S3에서는 key가 stored name
+                    .filePath(s3Key)    // S3에서는 key가 file path
+                    .fileSize(file.getSize())
+                    .fileExtension(getFileExtension(file.getOriginalFilename()))
+                    .mimeType(file.getContentType())
+                    .displayOrder(nextOrder)
+                    .isThumbnail(isThumbnail ? "Y" : "N")
+                    .status("A")
+                    .altText(altText)
+                    .description(description)
+                    .variantKeys(stored.variantKeys().get(0))
+                    .contentHash(stored.contentHashes().get(0))
+                    .build();
+
+            return imageRepository.save(imageEntity);
+        });
     }
 
     /**
      * 다중 이미지 업로드
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<ImageEntity> uploadMultipleImages(List<MultipartFile> files, String imageTypeCode, String referenceId) throws IOException {
         return uploadMultipleImages(files, imageTypeCode, referenceId, false);
     }
 
     /**
      * 다중 이미지 업로드 (첫 번째 이미지를 썸네일로 설정 옵션)
+     * - S3 업로드는 트랜잭션 밖에서 병렬로 수행 (호출측 트랜잭션이 없으면 DB 커넥션 미점유)
+     * - 표시 순서는 1회 조회로 일괄 계산, 엔티티는 짧은 트랜잭션 1회로 일괄 저장
+     * - 저장 실패 시에도 내용 주소 S3 객체는 유지 (참조가 없으면 유예 기간 후 정리)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<ImageEntity> uploadMultipleImages(List<MultipartFile> files, String imageTypeCode, String referenceId,
                                                 boolean setFirstAsThumbnail) throws IOException {
 
         validateBasicParams(imageTypeCode, referenceId);
+        List<MultipartFile> targets = nonEmptyFiles(files);
 
-        // S3에 파일 업로드
-        List<String> s3Keys = s3FileService.uploadMultipleImages(files, imageTypeCode);
-
-        // 현재 최대 표시 순서 조회
-        Integer maxOrder = imageRepository.findMaxDisplayOrderByReference(imageTypeCode, referenceId);
-        Integer startOrder = (maxOrder != null) ? maxOrder + 1 : 1;
-
-        // 첫 번째 이미지를 썸네일로 설정하는 경우 기존 썸네일 해제
-        if (setFirstAsThumbnail) {
-            imageRepository.clearAllThumbnails(imageTypeCode, referenceId);
-        }
-
-        List<ImageEntity> savedImages = new ArrayList<>();
+        // S3에 파일 병렬 업로드 + 축소 변형 생성 (같은 내용이 이미 있으면 기존 객체 재사용)
+        StoredContents stored = storeContents(targets);
 
-        for (int i = 0; i < files.size(); i++) {
-            MultipartFile file = files.get(i);
-            String s3Key = s3Keys.get(i);
-            boolean isThumbnail = setFirstAsThumbnail && i == 0;
+        return saveUploadedImages(stored, status -> {
+            // 현재 최대 표시 순서 조회 (1회)
+            Integer maxOrder = imageRepository.findMaxDisplayOrderByReference(imageTypeCode, referenceId);
+            int startOrder = (maxOrder != null) ? maxOrder + 1 : 1;
 
-            ImageEntity imageEntity = ImageEntity.builder()
-                    .referenceType(imageTypeCode)
-                    .referenceId(referenceId)
-                    .originalName(file.getOriginalFilename())
-                    .storedName(s3Key)  // S3에서는 key가 stored name
-                    .filePath(s3Key)    // S3에서는 key가 file path
-                    .fileSize(file.getSize())
-                    .fileExtension(getFileExtension(file.getOriginalFilename()))
-                    .mimeType(file.getContentType())
-                    .displayOrder(startOrder + i)
-                    .isThumbnail(isThumbnail ? "Y" : "N")
-                    .status("A")
-                    .build();
-
-            savedImages.add(imageRepository.save(imageEntity));
-        }
+            // 첫 번째 이미지를 썸네일로 설정하는 경우 기존 썸네일 해제
+            if (setFirstAsThumbnail) {
+                imageRepository.clearAllThumbnails(imageTypeCode, referenceId);
+            }
 
-        return savedImages;
+            return imageRepository.saveAll(
+                    buildImageEntities(targets, stored, imageTypeCode, referenceId, startOrder, setFirstAsThumbnail));
+        });
     }
 
     /**
      * 기존 이미지들을 모두 삭제하고 새로운 이미지들로 교체
+     * - 새 이미지 업로드/저장이 성공한 뒤에 기존 S3 파일 정리 (내용 주소 객체는 유예 기간 후 정리 작업이 삭제)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<ImageEntity> replaceAllImages(List<MultipartFile> files, String imageTypeCode, String referenceId,
                                             boolean setFirstAsThumbnail) throws IOException {
 
         validateBasicParams(imageTypeCode, referenceId);
+        List<MultipartFile> targets = nonEmptyFiles(files);
 
-        // 1. 기존 이미지들 모두 삭제
-        deleteAllImagesByReference(imageTypeCode, referenceId);
+        // 1. S3에 새로운 이미지들 병렬 업로드 + 축소 변형 생성 (같은 내용이 이미 있으면 기존 객체 재사용)
+        StoredContents stored = storeContents(targets);
 
-        // 2. S3에 새로운 이미지들 업로드
-        List<String> s3Keys = s3FileService.uploadMultipleImages(files, imageTypeCode);
+        // 2. 기존 이미지 소프트 삭제 + 새 이미지 저장 (1 트랜잭션)
+        List<ImageEntity> previousImages = new ArrayList<>();
+        List<ImageEntity> savedImages = saveUploadedImages(stored, status -> {
+            previousImages.addAll(imageRepository.findActiveImagesByReference(imageTypeCode, referenceId));
+            imageRepository.softDeleteAllByReference(imageTypeCode, referenceId);
 
-        List<ImageEntity> savedImages = new ArrayList<>();
+            return imageRepository.saveAll(
+                    buildImageEntities(targets, stored, imageTypeCode, referenceId, 1, setFirstAsThumbnail));
+        });
 
-        for (int i = 0; i < files.size(); i++) {
-            MultipartFile file = files.get(i);
-            String s3Key = s3Keys.get(i);
-            boolean isThumbnail = setFirstAsThumbnail && i == 0;
-
-            ImageEntity imageEntity = ImageEntity.builder()
-                    .referenceType(imageTypeCode)
-                    .referenceId(referenceId)
-                    .originalName(file.getOriginalFilename())
-                    .storedName(s3Key)  // S3에서는 key가 stored name
-                    .filePath(s3Key)    // S3에서는 key가 file path
-                    .fileSize(file.getSize())
-                    .fileExtension(getFileExtension(file.getOriginalFilename()))
-                    .mimeType(file.getContentType())
-                    .displayOrder(i + 1)  // 1부터 시작
-                    .isThumbnail(isThumbnail ? "Y" : "N")
-                    .status("A")
-                    .build();
-
-            savedImages.add(imageRepository.save(imageEntity));
-        }
+        // 3. 더 이상 참조되지 않는 기존 S3 파일들 정리
+        deleteUnreferencedObjects(previousImages);
 
         return savedImages;
     }
@@ -200,31 +198,30 @@ public class ImageService {
 
     /**
      * 이미지 삭제 (소프트 삭제)
+     * - 내용 주소 S3 파일은 참조가 없어진 뒤 유예 기간이 지나면 정리 작업이 삭제
      */
     public void deleteImage(Long imageId) {
         Optional<ImageEntity> imageOpt = imageRepository.findById(imageId);
         if (imageOpt.isPresent()) {
-            ImageEntity image = imageOpt.get();
-            // S3에서 실제 파일 삭제
-            s3FileService.deleteFile(image.getFilePath());
             // DB에서 소프트 삭제
             imageRepository.softDeleteById(imageId);
+            // S3 파일 정리 (변형 포함)
+            deleteUnreferencedObjects(List.of(imageOpt.get()));
         }
     }
 
     /**
      * 참조 대상의 모든 이미지 삭제
+     * - 내용 주소 S3 파일은 참조가 없어진 뒤 유예 기간이 지나면 정리 작업이 삭제
      */
     public void deleteAllImagesByReference(String imageTypeCode, String referenceId) {
         List<ImageEntity> images = getImagesByReference(imageTypeCode, referenceId);
 
-        // S3에서 실제 파일들 삭제
-        for (ImageEntity image : images) {
-            s3FileService.deleteFile(image.getFilePath());
-        }
-
         // DB에서 소프트 삭제
         imageRepository.softDeleteAllByReference(imageTypeCode, referenceId);
+
+        // S3 파일 정리 (변형 포함)
+        deleteUnreferencedObjects(images);
     }
 
     /**
@@ -356,6 +353,16 @@ public class ImageService {
         return s3FileService.getFileUrl(image.getFilePath());
     }
 
+    /**
+     * S3 이미지 URL 조회 (요청 가로 크기 이상인 가장 작은 변형, 없으면 원본)
+     */
+    public String getImageUrl(ImageEntity image, Integer size) {
+        if (image == null || image.getFilePath() == null) {
+            return null;
+        }
+        return s3FileService.getFileUrl(ImageVariants.select(image.getFilePath(), image.getVariantKeys(), size));
+    }
+
     /**
      * S3 이미지 URL 조회 (파일 경로로)
      */
@@ -366,6 +373,22 @@ public class ImageService {
         return s3FileService.getFileUrl(s3Key);
     }
 
+    /**
+     * S3 이미지 URL 조회 (파일 경로 + 요청 가로 크기, 등록된 이미지가 아니면 원본)
+     */
+    @Transactional(readOnly = true)
+    public String getImageUrl(String s3Key, Integer size) {
+        if (s3Key == null || s3Key.isBlank()) {
+            return null;
+        }
+        if (size == null || size <= 0) {
+            return s3FileService.getFileUrl(s3Key);
+        }
+        return imageRepository.findFirstByStoredNameAndStatus(s3Key, "A")
+                .map(image -> getImageUrl(image, size))
+                .orElseGet(() -> s3FileService.getFileUrl(s3Key));
+    }
+
     /**
      * URL에서 파일 확장자 추출
      */
@@ -411,6 +434,182 @@ public class ImageService {
     }
 
     // Private helper methods
+
+    /**
+     * 파일별 S3 객체 결정 (내용 해시 기준 중복 제거)
+     * - 같은 내용이 이미 저장되어 있으면 그 key/변형을 재사용 (S3 업로드, 변형 생성 생략)
+     * - 요청 안에서 같은 내용이 반복되면 1번만 업로드
+     * - 내용 주소 key 는 여러 이미지가 공유하므로 여기서는 어떤 경우에도 S3 객체를 지우지 않음 (ImageContentService 가 정리)
+     * - 호출측 트랜잭션 안에서는 실행 금지: acquire/markReady 가 REQUIRES_NEW 라 업로드 동안 커넥션 2개를 점유하게 됨
+     */
+    private StoredContents storeContents(List<MultipartFile> files) throws IOException {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("이미지 업로드는 트랜잭션 밖에서 호출해야 합니다.");
+        }
+        List<String> contentHashes = new ArrayList<>(files.size());
+        Map<String, MultipartFile> fileByHash = new LinkedHashMap<>();
+        Map<String, String> proposedKeys = new LinkedHashMap<>();
+        for (MultipartFile file : files) {
+            String hash = s3FileService.contentHash(file);
+            contentHashes.add(hash);
+            if (fileByHash.putIfAbsent(hash, file) == null) {
+                proposedKeys.put(hash, s3FileService.contentAddressedKey(hash, file.getOriginalFilename()));
+            }
+        }
+        if (files.isEmpty()) {
+            return new StoredContents(List.of(), List.of(), List.of());
+        }
+
+        // 해시 행 잠금 + 사용 시각 갱신 (이후 유예 기간 동안 정리 작업이 삭제하지 않음)
+        Map<String, ImageContentEntity> contents = imageContentService.acquire(proposedKeys);
+
+        // 아직 저장 완료되지 않은 내용만 업로드 (key 는 해시 행에 기록된 key 사용)
+        List<String> newHashes = new ArrayList<>();
+        List<MultipartFile> newFiles = new ArrayList<>();
+        List<String> newKeys = new ArrayList<>();
+        contents.forEach((hash, content) -> {
+            if (!"Y".equals(content.getReady())) {
+                newHashes.add(hash);
+                newFiles.add(fileByHash.get(hash));
+                newKeys.add(content.getStoredName());
+            }
+        });
+        if (!newFiles.isEmpty()) {
+            s3FileService.uploadContentAddressed(newFiles, newKeys);
+        }
+        List<String> newVariantKeys = createVariants(newFiles, newKeys);
+
+        Map<String, String> variantKeysByHash = new HashMap<>();
+        contents.forEach((hash, content) -> variantKeysByHash.put(hash, content.getVariantKeys()));
+        Map<String, String> readyVariantKeys = new HashMap<>();
+        for (int i = 0; i < newHashes.size(); i++) {
+            variantKeysByHash.put(newHashes.get(i), newVariantKeys.get(i));
+            readyVariantKeys.put(newHashes.get(i), newVariantKeys.get(i));
+        }
+        imageContentService.markReady(readyVariantKeys);
+
+        if (newFiles.size() < files.size()) {
+            log.info("중복 내용 이미지 S3 업로드 생략: {}건", files.size() - newFiles.size());
+        }
+
+        return new StoredContents(
+                contentHashes,
+                contentHashes.stream().map(hash -> contents.get(hash).getStoredName()).toList(),
+                contentHashes.stream().map(variantKeysByHash::get).toList());
+    }
+
+    /**
+     * 업로드된 S3 객체에 대한 엔티티 저장
+     * - 실패해도 내용 주소 객체는 지우지 않음 (다른 이미지가 참조할 수 있음, 참조가 없으면 유예 기간 후 정리)
+     */
+    private <T> T saveUploadedImages(StoredContents stored, TransactionCallback<T> work) {
+        try {
+            return transactionTemplate.execute(work);
+        } catch (RuntimeException e) {
+            log.error("이미지 정보 저장 실패: {}건", stored.s3Keys().size(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 삭제된 이미지의 S3 객체 정리 (변형 포함)
+     * - 내용 주소 객체(CONTENT_HASH 있음)는 공유되므로 여기서 지우지 않음 (ImageContentService 가 유예 기간 후 정리)
+     * - 그 외(이전 방식의 고유 key)는 커밋 후 활성 이미지가 참조하지 않으면 삭제
+     */
+    private void deleteUnreferencedObjects(List<ImageEntity> images) {
+        Map<String, String> variantKeysByKey = new LinkedHashMap<>();
+        for (ImageEntity image : images) {
+            if (image.getStoredName() != null && image.getContentHash() == null) {
+                variantKeysByKey.putIfAbsent(image.getStoredName(), image.getVariantKeys());
+            }
+        }
+        if (variantKeysByKey.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> {
+            Set<String> referenced = new HashSet<>(imageRepository.findActiveStoredNames(variantKeysByKey.keySet()));
+            List<String> keys = new ArrayList<>();
+            variantKeysByKey.forEach((key, variantKeys) -> {
+                if (!referenced.contains(key)) {
+                    keys.addAll(ImageVariants.allKeys(key, variantKeys));
+                }
+            });
+            s3FileService.deleteFiles(keys);
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 업로드된 파일들의 축소 변형을 작업 풀에서 동시에 생성 (파일 순서대로 VARIANT_KEYS JSON, 실패 시 null)
+     */
+    private List<String> createVariants(List<MultipartFile> files, List<String> s3Keys) {
+        List<CompletableFuture<Map<Integer, String>>> futures = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            // 내용 주소 key 의 변형은 다른 요청과 공유되므로 실패해도 지우지 않음
+            futures.add(imageVariantService.createVariantsAsync(files.get(i), s3Keys.get(i), false));
+        }
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .map(ImageVariants::toJson)
+                .toList();
+    }
+
+    private List<ImageEntity> buildImageEntities(List<MultipartFile> files, StoredContents stored,
+                                                 String imageTypeCode, String referenceId, int startOrder,
+                                                 boolean setFirstAsThumbnail) {
+        List<ImageEntity> images = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            MultipartFile file = files.get(i);
+            String s3Key = stored.s3Keys().get(i);
+            boolean isThumbnail = setFirstAsThumbnail && i == 0;
+
+            images.add(ImageEntity.builder()
+                    .referenceType(imageTypeCode)
+                    .referenceId(referenceId)
+                    .originalName(file.getOriginalFilename())
+                    .storedName(s3Key)  // S3에서는 key가 stored name
+                    .filePath(s3Key)    // S3에서는 key가 file path
+                    .fileSize(file.getSize())
+                    .fileExtension(getFileExtension(file.getOriginalFilename()))
+                    .mimeType(file.getContentType())
+                    .displayOrder(startOrder + i)
+                    .isThumbnail(isThumbnail ? "Y" : "N")
+                    .status("A")
+                    .variantKeys(stored.variantKeys().get(i))
+                    .contentHash(stored.contentHashes().get(i))
+                    .build());
+        }
+        return images;
+    }
+
+    /**
+     * 파일별 저장 결과 (파일 순서와 같음)
+     */
+    private record StoredContents(List<String> contentHashes, List<String> s3Keys, List<String> variantKeys) {
+    }
+
+    /**
+     * 빈 파일 제외 (S3 업로드 key 순서와 맞추기 위해 업로드 전에 걸러냄)
+     */
+    private List<MultipartFile> nonEmptyFiles(List<MultipartFile> files) {
+        if (files == null) {
+            return List.of();
+        }
+        return files.stream().filter(file -> file != null && !file.isEmpty()).toList();
+    }
+
     
     /**
      * 기본 파라미터 검증
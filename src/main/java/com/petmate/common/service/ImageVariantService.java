@@ -0,0 +1,120 @@
+package com.petmate.common.service;
+
+import com.petmate.common.image.ImageVariantGenerator;
+import com.petmate.common.image.ImageVariantGenerator.ImageVariant;
+import com.petmate.common.image.ImageVariants;
+import com.petmate.common.util.S3FileService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지의 축소 변형(기본 128/512/1024px) 생성 및 S3 저장
+ * - 디코딩/축소는 메모리/CPU 사용이 커서 고정 크기 작업 풀에서만 실행 (대기열이 차면 호출 스레드에서 실행)
+ * - 변형 생성 실패는 업로드 실패로 보지 않음 (원본만 사용)
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private static final int QUEUE_CAPACITY = 64;
+
+    private final S3FileService s3FileService;
+    private final int[] widths;
+    private final float jpegQuality;
+    private final ThreadPoolExecutor executor;
+
+    public ImageVariantService(S3FileService s3FileService,
+                               @Value("${app.image.variant.widths:128,512,1024}") int[] widths,
+                               @Value("${app.image.variant.jpeg-quality:0.82}") float jpegQuality,
+                               @Value("${app.image.variant.threads:0}") int threads) {
+        this.s3FileService = s3FileService;
+        this.widths = widths;
+        this.jpegQuality = jpegQuality;
+
+        int poolSize = threads > 0 ? threads : Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 작업 풀에서 변형 생성 (가로 크기 -> S3 key)
+     * - 원본 바이트는 작업 스레드에서 읽음 (동시에 메모리에 올라가는 원본 수 = 풀 크기)
+     */
+    public CompletableFuture<Map<Integer, String>> createVariantsAsync(InputStreamSource original, String originalKey) {
+        return createVariantsAsync(original, originalKey, true);
+    }
+
+    /**
+     * 작업 풀에서 변형 생성 (cleanupOnFailure: 실패 시 일부 저장된 변형 삭제 여부,
+     * 내용 주소 key 는 같은 내용을 올리는 다른 요청과 변형 key 를 공유하므로 false)
+     */
+    public CompletableFuture<Map<Integer, String>> createVariantsAsync(InputStreamSource original, String originalKey,
+                                                                      boolean cleanupOnFailure) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (InputStream in = original.getInputStream()) {
+                return createVariants(in.readAllBytes(), originalKey, cleanupOnFailure);
+            } catch (IOException e) {
+                log.warn("변형 이미지 생성용 원본 읽기 실패: {} - {}", originalKey, e.getMessage());
+                return Collections.<Integer, String>emptyMap();
+            }
+        }, executor);
+    }
+
+    /**
+     * 변형 생성 + S3 저장 (지원하지 않는 형식이거나 실패하면 빈 맵, 일부만 저장된 변형은 삭제)
+     */
+    public Map<Integer, String> createVariants(byte[] original, String originalKey) {
+        return createVariants(original, originalKey, true);
+    }
+
+    private Map<Integer, String> createVariants(byte[] original, String originalKey, boolean cleanupOnFailure) {
+        List<String> stored = new ArrayList<>();
+        try {
+            Map<Integer, String> keys = new TreeMap<>();
+            for (ImageVariant variant : ImageVariantGenerator.generate(original, widths, jpegQuality)) {
+                String key = ImageVariants.keyFor(originalKey, variant.width(), variant.extension());
+                s3FileService.putBytes(key, variant.bytes(), variant.contentType());
+                stored.add(key);
+                keys.put(variant.width(), key);
+            }
+            if (!keys.isEmpty()) {
+                log.debug("변형 이미지 생성: {} -> {}", originalKey, keys.keySet());
+            }
+            return keys;
+        } catch (Exception e) {
+            log.warn("변형 이미지 생성 실패 (원본만 사용): {} - {}", originalKey, e.getMessage());
+            if (cleanupOnFailure) {
+                s3FileService.deleteFiles(stored);
+            }
+            return Collections.emptyMap();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
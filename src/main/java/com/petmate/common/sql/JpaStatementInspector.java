@@ -0,0 +1,16 @@
+package com.petmate.common.sql;
+
+import com.petmate.common.sql.SqlStatementStats.SqlSource;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 SQL 마다 호출 -> 요청별 JPA 실행 횟수 집계 (SQL 은 변경하지 않음)
+ */
+public class JpaStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementCounter.statement(SqlSource.JPA, sql);
+        return sql;
+    }
+}
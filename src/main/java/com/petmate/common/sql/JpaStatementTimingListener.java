@@ -0,0 +1,32 @@
+package com.petmate.common.sql;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Hibernate 세션별 JDBC 실행 시간 측정 (hibernate.session.events.auto 로 세션마다 생성)
+ */
+public class JpaStatementTimingListener extends BaseSessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementCounter.elapsed(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementCounter.elapsed(System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,42 @@
+package com.petmate.common.sql;
+
+import com.petmate.common.sql.SqlStatementStats.SqlSource;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+
+/**
+ * MyBatis JDBC 실행(StatementHandler) 단위 요청별 횟수/시간 집계
+ * - Executor 가 아닌 StatementHandler 에 걸어 1차 캐시 적중은 세지 않음
+ * - mybatis-spring-boot 자동설정이 Interceptor 빈을 SqlSessionFactory 에 등록
+ */
+@Component
+@Intercepts({
+        @Signature(type = StatementHandler.class, method = "query", args = {Statement.class, ResultHandler.class}),
+        @Signature(type = StatementHandler.class, method = "update", args = {Statement.class}),
+        @Signature(type = StatementHandler.class, method = "batch", args = {Statement.class})
+})
+public class MyBatisStatementInterceptor implements Interceptor {
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if (SqlStatementCounter.current() == null) {
+            return invocation.proceed();
+        }
+
+        StatementHandler handler = (StatementHandler) invocation.getTarget();
+        SqlStatementCounter.statement(SqlSource.MYBATIS, handler.getBoundSql().getSql());
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            SqlStatementCounter.elapsed(System.nanoTime() - start);
+        }
+    }
+}
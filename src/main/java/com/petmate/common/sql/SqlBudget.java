@@ -0,0 +1,17 @@
+package com.petmate.common.sql;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔드포인트별 요청당 SQL 실행 허용 횟수 (app.sql-budget.max-statements 대신 적용)
+ * - 목록/집계처럼 쿼리가 많은 것이 정상인 핸들러에만 사용
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+
+    int value();
+}
@@ -0,0 +1,11 @@
+package com.petmate.common.sql;
+
+/**
+ * 요청당 SQL 실행 횟수가 허용치를 넘음 (app.sql-budget.fail-on-exceed=true 일 때만 발생, MockMvc 테스트 용도)
+ */
+public class SqlBudgetExceededException extends IllegalStateException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,47 @@
+package com.petmate.common.sql;
+
+import com.petmate.common.sql.SqlStatementStats.SqlSource;
+
+/**
+ * 요청 범위 SQL 집계 보관소 (ThreadLocal)
+ * - SqlStatementCountingFilter 가 요청 시작/종료 시 start/stop
+ * - 요청 밖(스케줄러, 기동 작업)에서 실행된 SQL 은 집계하지 않음
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    static void start() {
+        CURRENT.set(new SqlStatementStats());
+    }
+
+    static SqlStatementStats stop() {
+        SqlStatementStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    /**
+     * 현재 요청의 집계 (요청 밖이면 null)
+     */
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    static void statement(SqlSource source, String sql) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statement(source, sql);
+        }
+    }
+
+    static void elapsed(long nanos) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.elapsed(nanos);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.petmate.common.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 요청별 SQL 실행 횟수/시간 집계 및 허용치(N+1) 검사
+ * - 메트릭: sql.request.statements (요청당 실행 횟수), sql.request.time (요청당 실행 시간 합계)
+ *   태그 method, uri(매핑 패턴), 조회: /actuator/metrics/sql.request.statements?tag=uri:/api/booking/my
+ * - 허용치 초과 시 반복 SQL 상위 목록과 함께 경고 로그
+ * - app.sql-budget.fail-on-exceed=true (테스트 프로파일) 면 SqlBudgetExceededException 으로 요청 실패
+ *   검사는 핸들러 실행(chain.doFilter) 후라 실제 서블릿 컨테이너에서는 응답이 이미 커밋/전송된 상태
+ *   -> 예외는 MockMvc 테스트에서만 호출측(perform)으로 드러나고, 운영/로컬 서버에서는 경고 로그로만 확인
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementCountingFilter extends OncePerRequestFilter {
+
+    private static final int REPEATED_LOG_LIMIT = 3;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int maxStatements;
+    private final boolean failOnExceed;
+
+    public SqlStatementCountingFilter(MeterRegistry meterRegistry,
+                                      @Value("${app.sql-budget.enabled:true}") boolean enabled,
+                                      @Value("${app.sql-budget.max-statements:30}") int maxStatements,
+                                      @Value("${app.sql-budget.fail-on-exceed:false}") boolean failOnExceed) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxStatements = maxStatements;
+        this.failOnExceed = failOnExceed;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        SqlStatementCounter.start();
+        SqlStatementStats stats;
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            stats = SqlStatementCounter.stop();
+        }
+
+        String method = request.getMethod();
+        String uri = uriPattern(request);
+        record(method, uri, stats);
+        checkBudget(request, method, uri, stats);
+    }
+
+    private void record(String method, String uri, SqlStatementStats stats) {
+        DistributionSummary.builder("sql.request.statements")
+                .description("요청당 SQL 실행 횟수 (JPA + MyBatis)")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.total());
+        Timer.builder("sql.request.time")
+                .description("요청당 SQL 실행 시간 합계")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.elapsedNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void checkBudget(HttpServletRequest request, String method, String uri, SqlStatementStats stats) {
+        int budget = budgetOf(request);
+        if (stats.total() <= budget) {
+            return;
+        }
+
+        String message = String.format("SQL 실행 허용치 초과: %s %s - %d회 (허용 %d, JPA %d / MyBatis %d)%s",
+                method, uri, stats.total(), budget, stats.jpaStatements(), stats.mybatisStatements(),
+                describeRepeated(stats.mostRepeated(REPEATED_LOG_LIMIT)));
+        if (failOnExceed) {
+            // 응답 커밋 후라 클라이언트 상태 코드는 바뀌지 않음 (MockMvc 에서만 의미 있음)
+            throw new SqlBudgetExceededException(message);
+        }
+        log.warn(message);
+    }
+
+    /**
+     * 핸들러 메서드/컨트롤러의 @SqlBudget, 없으면 기본 허용치
+     */
+    private int budgetOf(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            SqlBudget budget = handler.getMethodAnnotation(SqlBudget.class);
+            if (budget == null) {
+                budget = handler.getBeanType().getAnnotation(SqlBudget.class);
+            }
+            if (budget != null) {
+                return budget.value();
+            }
+        }
+        return maxStatements;
+    }
+
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    private static String describeRepeated(List<Map.Entry<String, Integer>> repeated) {
+        if (repeated.isEmpty()) {
+            return "";
+        }
+        return repeated.stream()
+                .map(e -> e.getValue() + "회: " + e.getKey().replaceAll("\\s+", " "))
+                .collect(Collectors.joining("\n  ", "\n반복 SQL:\n  ", ""));
+    }
+}
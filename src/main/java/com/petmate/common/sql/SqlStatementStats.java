@@ -0,0 +1,68 @@
+package com.petmate.common.sql;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 1건 동안 실행된 SQL 집계 (요청 스레드 전용, 동기화 없음)
+ * - JPA(StatementInspector)와 MyBatis(Interceptor) 실행 횟수/시간
+ * - 같은 SQL 반복 횟수 (N+1 추적용, 서로 다른 SQL 은 최대 MAX_DISTINCT 개까지만 보관)
+ */
+public class SqlStatementStats {
+
+    private static final int MAX_DISTINCT = 200;
+
+    private int jpaStatements;
+    private int mybatisStatements;
+    private long elapsedNanos;
+    private final Map<String, Integer> repeats = new HashMap<>();
+
+    void statement(SqlSource source, String sql) {
+        if (source == SqlSource.JPA) {
+            jpaStatements++;
+        } else {
+            mybatisStatements++;
+        }
+        if (sql != null && (repeats.size() < MAX_DISTINCT || repeats.containsKey(sql))) {
+            repeats.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void elapsed(long nanos) {
+        elapsedNanos += nanos;
+    }
+
+    public int total() {
+        return jpaStatements + mybatisStatements;
+    }
+
+    public int jpaStatements() {
+        return jpaStatements;
+    }
+
+    public int mybatisStatements() {
+        return mybatisStatements;
+    }
+
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * 2회 이상 반복된 SQL (반복 횟수 내림차순, 최대 limit 개)
+     */
+    public List<Map.Entry<String, Integer>> mostRepeated(int limit) {
+        return repeats.entrySet().stream()
+                .filter(e -> e.getValue() > 1)
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(e -> Map.entry(e.getKey(), e.getValue()))
+                .toList();
+    }
+
+    public enum SqlSource {
+        JPA, MYBATIS
+    }
+}
@@ -1,25 +1,109 @@
 package com.petmate.common.util;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.petmate.common.entity.CodeEntity;
 import com.petmate.common.repository.CodeRepository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * 공통코드 조회 유틸
+ * - code 테이블 전체를 불변 스냅샷(그룹 -> 코드)으로 메모리에 보관, 조회 시 DB 미사용
+ * - 기동 완료 시 적재, 주기적 재적재 + 관리자 수동 재적재 시 스냅샷을 원자적으로 교체
+ */
+@Slf4j
 @Component
 public class CodeUtil {
 
     private final CodeRepository codeRepository;
+    private final AtomicReference<CodeSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong versionSequence = new AtomicLong();
 
     public CodeUtil(CodeRepository codeRepository) {
         this.codeRepository = codeRepository;
     }
 
+    // ================================
+    // 스냅샷 적재
+    // ================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${app.code.reload-minutes:60}",
+            initialDelayString = "${app.code.reload-minutes:60}",
+            timeUnit = TimeUnit.MINUTES)
+    public void scheduledReload() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("공통코드 주기 재적재 실패 (기존 스냅샷 유지): {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * code 테이블 전체를 다시 읽어 스냅샷 교체
+     * @return 새 스냅샷 버전
+     */
+    public synchronized long reload() {
+        List<CodeEntity> codes = codeRepository.findAll();
+        CodeSnapshot loaded = CodeSnapshot.of(versionSequence.incrementAndGet(), codes);
+        snapshot.set(loaded);
+        log.info("공통코드 스냅샷 적재 완료 - version: {}, 그룹: {}개, 코드: {}개",
+                loaded.version(), loaded.groups().size(), codes.size());
+        return loaded.version();
+    }
+
+    public long getVersion() {
+        return current().version();
+    }
+
+    public LocalDateTime getLoadedAt() {
+        return current().loadedAt();
+    }
+
+    private CodeSnapshot current() {
+        CodeSnapshot current = snapshot.get();
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot.get();
+                if (current == null) {
+                    reload();
+                    current = snapshot.get();
+                }
+            }
+        }
+        return current;
+    }
+
+    private CodeGroup group(String groupCode) {
+        CodeGroup group = current().groups().get(groupCode);
+        return group != null ? group : CodeGroup.EMPTY;
+    }
+
+    // ================================
+    // 코드명 조회
+    // ================================
+
     public String getCodeName(String groupCode, String code) {
-        CodeEntity codeEntity = codeRepository.findByGroupCodeAndCode(groupCode, code);
+        CodeEntity codeEntity = group(groupCode).byCode().get(code);
         if (codeEntity == null) {
             return "";
         }
@@ -27,7 +111,7 @@ public class CodeUtil {
     }
 
     public String getCodeNameEng(String groupCode, String code) {
-        CodeEntity codeEntity = codeRepository.findByGroupCodeAndCode(groupCode, code);
+        CodeEntity codeEntity = group(groupCode).byCode().get(code);
         if (codeEntity == null) {
             return "";
         }
@@ -107,43 +191,42 @@ public class CodeUtil {
      * 특정 그룹의 모든 코드 엔티티 조회 (정렬 순서대로)
      */
     public List<CodeEntity> getCodeList(String groupCode) {
-        return codeRepository.findByGroupCodeOrderBySort(groupCode);
+        // 스냅샷 보호를 위해 복사본 반환 (CodeEntity 는 가변 객체)
+        List<CodeEntity> codes = group(groupCode).codes();
+        List<CodeEntity> copies = new ArrayList<>(codes.size());
+        for (CodeEntity code : codes) {
+            copies.add(new CodeEntity(code.getId(), code.getGroupCode(), code.getCode(),
+                    code.getCodeNameEng(), code.getCodeNameKor(), code.getSort()));
+        }
+        return copies;
     }
     
     /**
-     * 특정 그룹의 코드를 Map 형태로 조회 (code -> codeNameKor)
+     * 특정 그룹의 코드를 Map 형태로 조회 (code -> codeNameKor, 정렬 순서 유지, 읽기 전용)
      */
     public Map<String, String> getCodeMap(String groupCode) {
-        return getCodeList(groupCode).stream()
-                .collect(Collectors.toMap(
-                    CodeEntity::getCode,
-                    CodeEntity::getCodeNameKor
-                ));
+        return group(groupCode).namesKor();
     }
     
     /**
-     * 특정 그룹의 코드를 영문 Map 형태로 조회 (code -> codeNameEng)
+     * 특정 그룹의 코드를 영문 Map 형태로 조회 (code -> codeNameEng, 정렬 순서 유지, 읽기 전용)
      */
     public Map<String, String> getCodeMapEng(String groupCode) {
-        return getCodeList(groupCode).stream()
-                .collect(Collectors.toMap(
-                    CodeEntity::getCode,
-                    CodeEntity::getCodeNameEng
-                ));
+        return group(groupCode).namesEng();
     }
     
     /**
      * 코드 존재 여부 확인
      */
     public boolean isValidCode(String groupCode, String code) {
-        return codeRepository.existsByGroupCodeAndCode(groupCode, code);
+        return group(groupCode).byCode().containsKey(code);
     }
     
     /**
      * 그룹 코드 존재 여부 확인
      */
     public boolean isValidGroupCode(String groupCode) {
-        return codeRepository.existsByGroupCode(groupCode);
+        return current().groups().containsKey(groupCode);
     }
 
     // ================================
@@ -262,4 +345,50 @@ public class CodeUtil {
         return getCodeList("IMAGE_TYPE");
     }
 
+    // ================================
+    // 스냅샷 구조
+    // ================================
+
+    private record CodeSnapshot(long version, LocalDateTime loadedAt, Map<String, CodeGroup> groups) {
+
+        static CodeSnapshot of(long version, List<CodeEntity> codes) {
+            Map<String, List<CodeEntity>> byGroup = new HashMap<>();
+            for (CodeEntity code : codes) {
+                // 영속성 컨텍스트와 분리된 복사본 보관
+                CodeEntity copy = new CodeEntity(code.getId(), code.getGroupCode(), code.getCode(),
+                        code.getCodeNameEng(), code.getCodeNameKor(), code.getSort());
+                byGroup.computeIfAbsent(copy.getGroupCode(), k -> new ArrayList<>()).add(copy);
+            }
+
+            Map<String, CodeGroup> groups = new HashMap<>();
+            byGroup.forEach((groupCode, groupCodes) -> groups.put(groupCode, CodeGroup.of(groupCodes)));
+            return new CodeSnapshot(version, LocalDateTime.now(), Collections.unmodifiableMap(groups));
+        }
+    }
+
+    private record CodeGroup(List<CodeEntity> codes,
+                             Map<String, CodeEntity> byCode,
+                             Map<String, String> namesKor,
+                             Map<String, String> namesEng) {
+
+        static final CodeGroup EMPTY = new CodeGroup(List.of(), Map.of(), Map.of(), Map.of());
+
+        static CodeGroup of(List<CodeEntity> codes) {
+            List<CodeEntity> sorted = new ArrayList<>(codes);
+            sorted.sort(Comparator.comparingInt(CodeEntity::getSort));
+
+            Map<String, CodeEntity> byCode = new HashMap<>();
+            Map<String, String> namesKor = new LinkedHashMap<>();
+            Map<String, String> namesEng = new LinkedHashMap<>();
+            for (CodeEntity code : sorted) {
+                byCode.put(code.getCode(), code);
+                namesKor.put(code.getCode(), code.getCodeNameKor());
+                namesEng.put(code.getCode(), code.getCodeNameEng());
+            }
+            return new CodeGroup(Collections.unmodifiableList(sorted),
+                    Collections.unmodifiableMap(byCode),
+                    Collections.unmodifiableMap(namesKor),
+                    Collections.unmodifiableMap(namesEng));
+        }
+    }
 }
@@ -0,0 +1,35 @@
+package com.petmate.common.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 파일 내용 해시 유틸리티 클래스
+ */
+public class ContentHashUtil {
+
+    /**
+     * 스트림을 끝까지 읽으며 SHA-256 계산 (전체를 메모리에 올리지 않음)
+     * 예: "abc" -> "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad"
+     */
+    public static String sha256Hex(InputStream in) throws IOException {
+        MessageDigest digest = newSha256();
+        try (DigestInputStream digestIn = new DigestInputStream(in, digest)) {
+            digestIn.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -23,6 +23,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 @Slf4j
 @Service
@@ -38,6 +43,9 @@ public class S3FileService {
 
     private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList("jpg", "jpeg", "png", "gif", "bmp", "webp");
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
+    private static final int MAX_PARALLEL_UPLOADS = 8;
+    private static final int DELETE_BATCH_SIZE = 1000; // DeleteObjects 1회 최대 개수
+    private static final String CONTENT_KEY_PREFIX = "cas/"; // 내용 주소 key 접두사
 
     public String uploadSingleImage(MultipartFile file) throws IOException {
         return uploadSingleImage(file, null);
@@ -53,14 +61,7 @@ public class S3FileService {
         String fileName = generateS3FileName(file.getOriginalFilename(), imageTypeCode);
 
         try {
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(fileName)
-                    .contentType(file.getContentType())
-                    .build();
-
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
-
+            putObject(file, fileName);
             log.info("S3 파일 업로드 성공: {}", fileName);
             return fileName;
 
@@ -74,26 +75,57 @@ public class S3FileService {
         return uploadMultipleImages(files, null);
     }
 
+    /**
+     * 다중 이미지 병렬 업로드 (가상 스레드, 동시 업로드 MAX_PARALLEL_UPLOADS 개)
+     * - 반환 key 는 비어있지 않은 파일 순서와 같음
+     * - 하나라도 실패하면 모든 업로드 종료 후 성공한 객체를 삭제하고 IOException
+     */
     public List<String> uploadMultipleImages(List<MultipartFile> files, String imageTypeCode) throws IOException {
         if (files == null || files.isEmpty()) {
             throw new IllegalArgumentException("업로드할 파일이 없습니다.");
         }
 
-        List<String> uploadedFiles = new ArrayList<>();
-
-        for (MultipartFile file : files) {
-            if (!file.isEmpty()) {
-                validateImageFile(file);
-                String fileName = uploadSingleImage(file, imageTypeCode);
-                uploadedFiles.add(fileName);
-            }
+        List<MultipartFile> targets = files.stream().filter(file -> !file.isEmpty()).toList();
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("유효한 파일이 없습니다.");
         }
 
-        if (uploadedFiles.isEmpty()) {
-            throw new IllegalArgumentException("유효한 파일이 없습니다.");
+        // 업로드 시작 전에 전체 검증 (일부만 올라가는 경우 방지)
+        targets.forEach(this::validateImageFile);
+        List<String> fileNames = targets.stream()
+                .map(file -> generateS3FileName(file.getOriginalFilename(), imageTypeCode))
+                .toList();
+
+        return putInParallel(targets, fileNames, true);
+    }
+
+    /**
+     * 내용 해시 계산 (SHA-256 hex, 파일을 스트림으로 읽으며 계산)
+     * - 검증을 먼저 수행 (중복 내용이라 S3 업로드를 건너뛰는 경우에도 같은 검증 적용)
+     */
+    public String contentHash(MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("파일이 비어있습니다.");
+        }
+        validateImageFile(file);
+        try (InputStream in = file.getInputStream()) {
+            return ContentHashUtil.sha256Hex(in);
         }
+    }
 
-        return uploadedFiles;
+    /**
+     * 내용 주소 key (cas/{sha256}.{확장자}) - 같은 내용이면 같은 key
+     */
+    public String contentAddressedKey(String contentHash, String originalFilename) {
+        return CONTENT_KEY_PREFIX + contentHash + "." + getFileExtension(originalFilename).toLowerCase();
+    }
+
+    /**
+     * 내용 주소 key 로 병렬 업로드 (files 와 fileNames 순서 일치, 검증은 contentHash 에서 수행)
+     * - 실패해도 이미 올라간 객체를 지우지 않음 (같은 key 를 다른 요청이 저장/참조했을 수 있음, 정리는 ImageContentService)
+     */
+    public void uploadContentAddressed(List<MultipartFile> files, List<String> fileNames) throws IOException {
+        putInParallel(files, fileNames, false);
     }
 
     public String uploadImageFromInputStream(InputStream inputStream, String imageTypeCode, String fileExtension) throws IOException {
@@ -129,6 +161,19 @@ public class S3FileService {
         }
     }
 
+    /**
+     * 생성된 바이트(변형 이미지 등)를 지정 key 로 저장
+     */
+    public void putBytes(String fileName, byte[] bytes, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(fileName)
+                .contentType(contentType)
+                .build();
+
+        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(bytes));
+    }
+
     public String getFileUrl(String fileName) {
         return getPresignedUrl(fileName, Duration.ofHours(24));
     }
@@ -178,6 +223,37 @@ public class S3FileService {
         }
     }
 
+    /**
+     * 여러 객체 일괄 삭제 (업로드 보상/교체 정리용, 실패는 로그만 남김)
+     * @return 모두 삭제했으면 true
+     */
+    public boolean deleteFiles(List<String> fileNames) {
+        if (fileNames == null || fileNames.isEmpty()) {
+            return true;
+        }
+        boolean allDeleted = true;
+        for (int from = 0; from < fileNames.size(); from += DELETE_BATCH_SIZE) {
+            List<ObjectIdentifier> objects = fileNames.subList(from, Math.min(from + DELETE_BATCH_SIZE, fileNames.size()))
+                    .stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .toList();
+            try {
+                DeleteObjectsResponse result = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                        .bucket(bucketName)
+                        .delete(Delete.builder().objects(objects).quiet(true).build())
+                        .build());
+                result.errors().forEach(error ->
+                        log.error("S3 파일 삭제 실패: {} ({})", error.key(), error.message()));
+                log.info("S3 파일 일괄 삭제: {}건", objects.size() - result.errors().size());
+                allDeleted &= result.errors().isEmpty();
+            } catch (Exception e) {
+                log.error("S3 파일 일괄 삭제 실패: {}건", objects.size(), e);
+                allDeleted = false;
+            }
+        }
+        return allDeleted;
+    }
+
     public boolean doesFileExist(String fileName) {
         try {
             HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
@@ -196,6 +272,69 @@ public class S3FileService {
         }
     }
 
+    /**
+     * 병렬 업로드 (가상 스레드, 동시 업로드 MAX_PARALLEL_UPLOADS 개)
+     * - 하나라도 실패하면 모든 업로드 종료 후 IOException (deleteOnFailure 면 성공한 객체 삭제)
+     */
+    private List<String> putInParallel(List<MultipartFile> targets, List<String> fileNames,
+                                       boolean deleteOnFailure) throws IOException {
+        Semaphore permits = new Semaphore(MAX_PARALLEL_UPLOADS);
+        List<Future<?>> uploads = new ArrayList<>(targets.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < targets.size(); i++) {
+                MultipartFile file = targets.get(i);
+                String fileName = fileNames.get(i);
+                uploads.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        putObject(file, fileName);
+                    } finally {
+                        permits.release();
+                    }
+                    return null;
+                }));
+            }
+        } // close(): 모든 업로드 종료까지 대기
+
+        List<String> uploaded = new ArrayList<>(targets.size());
+        Throwable failure = null;
+        for (int i = 0; i < uploads.size(); i++) {
+            try {
+                uploads.get(i).get();
+                uploaded.add(fileNames.get(i));
+            } catch (ExecutionException e) {
+                log.error("S3 파일 업로드 실패: {}", fileNames.get(i), e.getCause());
+                failure = failure == null ? e.getCause() : failure;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = failure == null ? e : failure;
+            }
+        }
+
+        if (failure != null) {
+            // 보상: 이번 요청에서 올라간 객체 삭제 (고유 key 인 경우만)
+            if (deleteOnFailure) {
+                deleteFiles(uploaded);
+            }
+            throw new IOException("S3 파일 업로드 실패: " + failure.getMessage(), failure);
+        }
+
+        log.info("S3 다중 파일 업로드 성공: {}건", uploaded.size());
+        return fileNames;
+    }
+
+    private void putObject(MultipartFile file, String fileName) throws IOException {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(fileName)
+                .contentType(file.getContentType())
+                .build();
+
+        try (InputStream in = file.getInputStream()) {
+            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(in, file.getSize()));
+        }
+    }
+
     private void validateImageFile(MultipartFile file) {
         if (file.getSize() > MAX_FILE_SIZE) {
             throw new IllegalArgumentException("파일 크기가 10MB를 초과합니다.");
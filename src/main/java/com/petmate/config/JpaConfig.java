@@ -1,5 +1,10 @@
 package com.petmate.config;
 
+import com.petmate.common.sql.JpaStatementInspector;
+import com.petmate.common.sql.JpaStatementTimingListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
@@ -10,4 +15,13 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 // "com.petmate.repository.jpa.test"})
 @EnableJpaRepositories(basePackages = "com.petmate.**.repository")
 public class JpaConfig {
-}
\ No newline at end of file
+
+    // 요청별 SQL 실행 횟수/시간 집계 (SqlStatementCountingFilter)
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new JpaStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JpaStatementTimingListener.class.getName());
+        };
+    }
+}
@@ -4,6 +4,7 @@ package com.petmate.config;
 import com.petmate.security.CustomOAuth2UserService;
 import com.petmate.security.JwtAuthenticationFilter;
 import com.petmate.security.OAuth2SuccessHandler;
+import com.petmate.security.PublicPaths;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -58,45 +59,20 @@ public class SecurityConfig {
                             res.getWriter().write("{\"code\":\"FORBIDDEN\",\"message\":\"forbidden\",\"path\":\"" + req.getRequestURI() + "\"}");
                         })
                 )
-                .authorizeHttpRequests(auth -> auth
-                        // Preflight
-                        .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
-
-                        // Static (이미지 포함)
-                        .requestMatchers("/img/**").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/files/**", "/static/**", "/favicon.ico", "/error").permitAll()
-
-                        // Auth endpoints
-                        .requestMatchers("/auth/signin", "/auth/signup", "/auth/refresh", "/auth/signout").permitAll()
-
-                        // Restore
-                        .requestMatchers(HttpMethod.POST, "/user/restore").permitAll()
-
-                        // Public API
-                        .requestMatchers(HttpMethod.GET, "/pet/breeds", "/pet/breeds/**").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/company/nearby").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/company/*/service-types").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/company/public/*").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/companies").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/products/companies").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/service-categories").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/review-keywords/**").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/files/view").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/reviews/company/**").permitAll()
-
-                        // Products time-slots
-                        .requestMatchers(HttpMethod.GET, "/api/products/*/available-slots").permitAll()
-                        .requestMatchers(HttpMethod.POST, "/api/products/*/refresh-slots").permitAll()
-
-                        // Payment
-                        .requestMatchers(HttpMethod.POST, "/api/payment/**").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/payment/**").permitAll()
-                        .requestMatchers("/api/payment/danal/**").permitAll()
-                        .requestMatchers(HttpMethod.DELETE, "/api/booking/payment-failed/*").permitAll()
-
-                        // Booking (temporary fix)
-                        .requestMatchers(HttpMethod.POST, "/api/booking").permitAll()
-
+                .authorizeHttpRequests(auth -> {
+                    // Preflight
+                    auth.requestMatchers(HttpMethod.OPTIONS, "/**").permitAll();
+
+                    // 공개 경로 (JwtAuthenticationFilter 우회 경로와 같은 정의 사용)
+                    for (PublicPaths.Rule rule : PublicPaths.RULES) {
+                        if (rule.method() == null) {
+                            auth.requestMatchers(rule.pattern()).permitAll();
+                        } else {
+                            auth.requestMatchers(rule.method(), rule.pattern()).permitAll();
+                        }
+                    }
+
+                    auth
                         // Upload (need auth)
                         .requestMatchers(HttpMethod.POST, "/upload/pet").authenticated()
 
@@ -117,8 +93,14 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/reviews/my/**", "/api/reviews/reservation/**").authenticated()
                         .requestMatchers(HttpMethod.DELETE, "/api/reviews/**").authenticated()
 
-                        .anyRequest().authenticated()
-                )
+                        // 운영 엔드포인트 (메트릭, 인증 추적 제어)
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
+                        // 관리자 API (공통코드 재적재 등)
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+
+                        .anyRequest().authenticated();
+                })
                 .oauth2Login(o -> o
                         .userInfoEndpoint(u -> u.userService(customOAuth2UserService))
                         .successHandler(oAuth2SuccessHandler)
@@ -0,0 +1,54 @@
+package com.petmate.controller;
+
+import com.petmate.common.util.CodeUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 공통코드 스냅샷 관리 (관리자 전용)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/codes")
+@RequiredArgsConstructor
+public class CodeController {
+
+    private final CodeUtil codeUtil;
+
+    /**
+     * 현재 스냅샷 버전 조회
+     */
+    @GetMapping("/version")
+    public ResponseEntity<Map<String, Object>> getVersion() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("version", codeUtil.getVersion());
+        response.put("loadedAt", codeUtil.getLoadedAt());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 공통코드 즉시 재적재 (code 테이블 변경 후 호출)
+     */
+    @PostMapping("/reload")
+    public ResponseEntity<Map<String, Object>> reload() {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            long version = codeUtil.reload();
+            response.put("success", true);
+            response.put("message", "공통코드 재적재 완료");
+            response.put("version", version);
+            response.put("loadedAt", codeUtil.getLoadedAt());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("공통코드 재적재 실패: {}", e.getMessage(), e);
+            response.put("success", false);
+            response.put("message", "공통코드 재적재 중 오류가 발생했습니다.");
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.petmate.controller;
 
 import com.petmate.common.entity.ImageEntity;
+import com.petmate.common.image.ImageVariants;
 import com.petmate.common.service.ImageService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
@@ -157,6 +158,7 @@ public class FileController {
                 imageInfo.put("displayOrder", image.getDisplayOrder());
                 imageInfo.put("altText", image.getAltText());
                 imageInfo.put("description", image.getDescription());
+                imageInfo.put("variants", ImageVariants.parse(image.getVariantKeys())); // 가로 크기 -> filePath
                 return imageInfo;
             }).toList());
             response.put("count", images.size());
@@ -168,11 +170,15 @@ public class FileController {
         }
     }
 
+    /**
+     * 이미지 보기 (size: 원하는 가로 크기, 예 128/512/1024 -> 해당 크기 이상인 가장 작은 변형으로 이동)
+     */
     @GetMapping("/view")
-    public ResponseEntity<?> viewImage(@RequestParam("filePath") String filePath) {
+    public ResponseEntity<?> viewImage(@RequestParam("filePath") String filePath,
+                                       @RequestParam(value = "size", required = false) Integer size) {
         try {
             // S3 URL 생성
-            String imageUrl = imageService.getImageUrl(filePath);
+            String imageUrl = imageService.getImageUrl(filePath, size);
 
             if (imageUrl != null) {
                 // S3 URL로 리다이렉트
@@ -0,0 +1,49 @@
+package com.petmate.domain.auth.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션 활동 시간 버퍼 (userId -> 마지막 접근 epoch millis)
+ * - API 요청마다 DB를 쓰지 않고 메모리에만 기록
+ * - SessionManagementService 가 주기적으로 일괄 반영
+ */
+@Component
+public class SessionActivityBuffer {
+
+    private final Map<Long, Long> lastSeen = new ConcurrentHashMap<>();
+
+    public void touch(Long userId, long epochMillis) {
+        if (userId != null) {
+            lastSeen.merge(userId, epochMillis, Math::max);
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 마지막 접근 시간 (없으면 null)
+     */
+    public Long lastSeen(Long userId) {
+        return userId != null ? lastSeen.get(userId) : null;
+    }
+
+    /**
+     * 현재 버퍼 스냅샷 (버퍼는 비우지 않음)
+     */
+    public Map<Long, Long> snapshot() {
+        return new HashMap<>(lastSeen);
+    }
+
+    /**
+     * 반영 완료된 항목 제거 (반영 중 더 최신 값이 들어온 항목은 유지)
+     */
+    public void acknowledge(Map<Long, Long> flushed) {
+        flushed.forEach(lastSeen::remove);
+    }
+
+    public int size() {
+        return lastSeen.size();
+    }
+}
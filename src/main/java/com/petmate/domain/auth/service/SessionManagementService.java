@@ -1,22 +1,36 @@
 package com.petmate.domain.auth.service;
 
+import com.petmate.common.repository.mybatis.token.SessionActivityMapper;
 import com.petmate.domain.auth.entity.RefreshTokenEntity;
 import com.petmate.domain.auth.repository.RefreshTokenRepository;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class SessionManagementService {
 
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
     private final RefreshTokenRepository refreshTokenRepository;
+    private final SessionActivityMapper sessionActivityMapper;
+    private final SessionActivityBuffer sessionActivityBuffer;
 
     @Value("${app.session.inactive-timeout-minutes:30}")
     private int inactiveTimeoutMinutes;
@@ -50,28 +64,55 @@ public class SessionManagementService {
 
     /**
      * JWT에서 사용자 ID로 세션 활성화 (Access Token 기반)
+     * - 요청마다 DB를 쓰지 않고 버퍼에 기록, flushSessionActivity 에서 일괄 반영
      */
-    @Transactional
     public void updateSessionActivityByUserId(Long userId) {
-        var tokens = refreshTokenRepository.findByUser_Id(userId);
+        sessionActivityBuffer.touch(userId, System.currentTimeMillis());
+    }
 
-        for (RefreshTokenEntity token : tokens) {
-            if (token.isInactive(inactiveTimeoutMinutes)) {
-                log.info("Inactive session detected for userId {}, deleting token", userId);
-                refreshTokenRepository.delete(token);
-            } else {
-                token.updateLastAccessed();
-                refreshTokenRepository.save(token);
-                log.debug("Session activity updated for userId: {}", userId);
+    /**
+     * 버퍼에 쌓인 세션 활동 시간을 refresh_token.last_accessed_at 에 일괄 반영
+     */
+    @Scheduled(fixedDelayString = "${app.session.activity-flush-seconds:10}", timeUnit = TimeUnit.SECONDS)
+    public void flushSessionActivity() {
+        Map<Long, Long> pending = sessionActivityBuffer.snapshot();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime inactiveSince = LocalDateTime.now().minusMinutes(inactiveTimeoutMinutes);
+        List<Long> userIds = new ArrayList<>(pending.keySet());
+        int updatedCount = 0;
+
+        try {
+            for (int from = 0; from < userIds.size(); from += FLUSH_CHUNK_SIZE) {
+                Map<Long, LocalDateTime> chunk = new HashMap<>();
+                for (Long userId : userIds.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, userIds.size()))) {
+                    chunk.put(userId, toLocalDateTime(pending.get(userId)));
+                }
+                updatedCount += sessionActivityMapper.updateLastAccessedAt(chunk, inactiveSince);
             }
+            sessionActivityBuffer.acknowledge(pending);
+            log.debug("Session activity flushed: {} users, {} tokens", pending.size(), updatedCount);
+        } catch (Exception e) {
+            // 실패 시 버퍼를 유지하고 다음 주기에 재시도
+            log.warn("Session activity flush failed ({} users pending): {}", pending.size(), e.getMessage());
         }
     }
 
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushSessionActivity();
+    }
+
     /**
      * 비활성 세션 정리 (스케줄러에서 호출)
      */
     @Transactional
     public int cleanupInactiveSessions() {
+        // 버퍼에만 있는 활동 시간이 반영되지 않은 채 활성 세션이 삭제되지 않도록 먼저 반영
+        flushSessionActivity();
+
         LocalDateTime inactiveTime = LocalDateTime.now().minusMinutes(inactiveTimeoutMinutes);
         int deletedCount = refreshTokenRepository.deleteInactiveTokens(inactiveTime);
 
@@ -98,6 +139,21 @@ public class SessionManagementService {
         }
 
         RefreshTokenEntity token = tokenOpt.get();
-        return !token.isExpired() && !token.isInactive(inactiveTimeoutMinutes);
+        if (token.isExpired()) {
+            return false;
+        }
+
+        // 아직 반영되지 않은 버퍼의 접근 시간을 우선 확인
+        Long bufferedMillis = sessionActivityBuffer.lastSeen(token.getUser().getId());
+        if (bufferedMillis != null
+                && toLocalDateTime(bufferedMillis).isAfter(token.getLastAccessedAt())
+                && toLocalDateTime(bufferedMillis).plusMinutes(inactiveTimeoutMinutes).isAfter(LocalDateTime.now())) {
+            return true;
+        }
+        return !token.isInactive(inactiveTimeoutMinutes);
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.petmate.domain.booking.controller;
 
+import com.petmate.domain.booking.dto.response.DaySlotSummary;
 import com.petmate.domain.booking.dto.response.TimeSlotResponse;
 import com.petmate.domain.booking.service.TimeSlotService;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @RestController
@@ -18,6 +20,8 @@ import java.util.List;
 @Slf4j
 public class TimeSlotController {
 
+    private static final int MAX_RANGE_DAYS = 62;
+
     private final TimeSlotService timeSlotService;
     
     // 상품별 예약가능 조회
@@ -54,6 +58,39 @@ public class TimeSlotController {
         }
     }
 
+    // 상품별 기간 예약 현황 조회 (달력 월간 보기, 최대 62일)
+    @GetMapping("/{productId}/available-slots/range")
+    public ResponseEntity<List<DaySlotSummary>> getAvailabilityRange(
+            @PathVariable Integer productId,
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(defaultValue = "false") boolean includeSlots
+    ) {
+        log.info("기간 예약 현황 조회 요청 : productId={}, from={}, to={}", productId, from, to);
+
+        LocalDate startDate;
+        LocalDate endDate;
+        try {
+            startDate = LocalDate.parse(from);
+            endDate = LocalDate.parse(to);
+        } catch (DateTimeParseException e) {
+            log.error("잘못된 날짜 형식: from={}, to={}", from, to);
+            return ResponseEntity.badRequest().body(List.of());
+        }
+
+        if (endDate.isBefore(startDate) || ChronoUnit.DAYS.between(startDate, endDate) >= MAX_RANGE_DAYS) {
+            log.error("잘못된 조회 기간: from={}, to={}", from, to);
+            return ResponseEntity.badRequest().body(List.of());
+        }
+
+        if(productId == null || productId <= 0) {
+            log.error("잘못된 상품 id:{}", productId);
+            return ResponseEntity.badRequest().body(List.of());
+        }
+
+        return ResponseEntity.ok(timeSlotService.getAvailabilityRange(productId, startDate, endDate, includeSlots));
+    }
+
     // 시간 새로고침
     @PostMapping("/{productId}/refresh-slots")
     public ResponseEntity<List<TimeSlotResponse>> refreshTimeSlots(
@@ -0,0 +1,19 @@
+package com.petmate.domain.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 예약 목록용 반려동물 요약 (일괄 조회 결과)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingPetSummary {
+
+    private Long id;
+    private Long ownerUserId;
+    private String name;
+    private String info; // 예: "멍멍이(골든 리트리버 3살)"
+}
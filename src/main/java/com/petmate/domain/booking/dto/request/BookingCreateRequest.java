@@ -51,6 +51,10 @@ public class BookingCreateRequest {
     @Min(value = 0, message = "총 금액은 0 이상이어야 합니다")
     private Integer totalPrice;
 
+    // 좌석을 선점할 예약 슬롯 ID (서버에서 상품/시작일시로 조회해 설정)
+    @com.fasterxml.jackson.annotation.JsonIgnore
+    private Integer slotId;
+
     // MyBatis insert 후 생성된 ID를 받기 위한 필드
     private Integer id;
 
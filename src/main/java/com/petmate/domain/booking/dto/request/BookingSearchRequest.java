@@ -4,8 +4,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Data
 @Builder
@@ -20,5 +22,9 @@ public class BookingSearchRequest {
     private Integer limit;
     private Integer offset;
 
+    // 키셋 커서: 이전 페이지 마지막 항목의 createdAt, id (지정 시 offset 무시)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime cursorCreatedAt;
+    private Integer cursorId;
 
 }
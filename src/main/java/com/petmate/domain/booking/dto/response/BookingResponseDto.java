@@ -1,5 +1,6 @@
 package com.petmate.domain.booking.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -38,6 +39,8 @@ public class BookingResponseDto {
     // 반려동물 정보
     private String petNames; // 반려동물 이름들 (예: "멍멍이, 야옹이")
     private String petInfo; // 반려동물 상세 정보 (예: "멍멍이(골든 리트리버 3살), 야옹이(페르시안 2살)")
+    @JsonIgnore
+    private String selectedPetIds; // 목록 조회 시 반려동물 일괄 조회용 원본 값 (JSON: "[1,2,3]")
 
     // API 응답용
     private boolean success;
@@ -0,0 +1,23 @@
+package com.petmate.domain.booking.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DaySlotSummary {
+
+    private LocalDate date;
+    private boolean isOpen;      // 영업일 여부 (휴무일/과거 날짜는 false)
+    private int totalSlots;      // 생성된 시간 슬롯 수
+    private int availableSlots;  // 예약 가능한 시간 슬롯 수
+    private List<TimeSlotResponse> slots; // includeSlots=true 인 경우만 포함
+
+}
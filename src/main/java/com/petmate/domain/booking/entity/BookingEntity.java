@@ -7,7 +7,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reservation")
+@Table(name = "reservation", indexes = {
+        @Index(name = "idx_reservation_owner_created", columnList = "OWNER_USER_ID, created_at, ID"),
+        @Index(name = "idx_reservation_company_created", columnList = "COMPANY_ID, created_at, ID")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -55,5 +58,8 @@ public class BookingEntity extends BaseEntity {
     @Column(name = "SELECTED_PET_IDS", columnDefinition = "TEXT")
     private String selectedPetIds; // JSON 형태로 저장: "[1,2,3]"
 
+    @Column(name = "SLOT_ID")
+    private Integer slotId; // 좌석을 선점한 예약 슬롯 (슬롯이 없는 상품이면 null)
+
 
 }
@@ -1,11 +1,13 @@
 package com.petmate.domain.booking.repository.mybatis;
 
+import com.petmate.domain.booking.dto.BookingPetSummary;
 import com.petmate.domain.booking.dto.request.BookingCreateRequest;
 import com.petmate.domain.booking.dto.request.BookingSearchRequest;
 import com.petmate.domain.booking.dto.response.BookingResponseDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -29,6 +31,12 @@ public interface BookingMapper {
             @Param("request") BookingSearchRequest request
     );
 
+    // 예약 목록의 반려동물 일괄 조회 (petIds 또는 보호자 ID에 해당하는 반려동물)
+    List<BookingPetSummary> selectPetSummaries(
+            @Param("petIds") Collection<Long> petIds,
+            @Param("ownerUserIds") Collection<Long> ownerUserIds
+    );
+
     // 시간대별 예약 수 체크
     int countBookingInTimeSlot(
             @Param("productId") Integer productId,
@@ -48,6 +56,19 @@ public interface BookingMapper {
             @Param("id") Integer id,
             @Param("status") String status);
 
+    // 진행 중인 예약만 취소/거절 상태로 변경
+    int updateBookingStatusIfActive(
+            @Param("id") Integer id,
+            @Param("status") String status);
+
+    // 취소/거절된 예약만 진행 상태로 변경
+    int updateBookingStatusIfInactive(
+            @Param("id") Integer id,
+            @Param("status") String status);
+
+    // 예약이 선점한 슬롯 ID
+    Integer selectBookingSlotId(@Param("id") Integer id);
+
     // 결제 상태 업데이트
     int updatePaymentStatus(
             @Param("id") Integer id,
@@ -1,17 +1,30 @@
 package com.petmate.domain.booking.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.petmate.domain.booking.dto.BookingPetSummary;
 import com.petmate.domain.booking.dto.request.BookingCreateRequest;
 import com.petmate.domain.booking.dto.request.BookingSearchRequest;
 import com.petmate.domain.booking.dto.response.BookingResponseDto;
 import com.petmate.domain.booking.repository.mybatis.BookingMapper;
+import com.petmate.domain.product.entity.AvailabilitySlotEntity;
+import com.petmate.domain.product.service.AvailabilitySlotService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +34,7 @@ public class BookingService {
 
     private final BookingMapper bookingMapper;
     private final TimeSlotService timeSlotService;
+    private final AvailabilitySlotService availabilitySlotService;
     private final ObjectMapper objectMapper;
 
     public BookingResponseDto createBooking(BookingCreateRequest request) {
@@ -28,6 +42,16 @@ public class BookingService {
             log.info("예약 생성 요청: {}", request);
             log.info("프론트엔드에서 받은 selectedPetIdsList: {}", request.getSelectedPetIdsList());
 
+            // 예약 슬롯이 등록된 상품이면 해당 슬롯의 좌석을 선점 (요청 시작일시 기준)
+            Optional<AvailabilitySlotEntity> slot =
+                    availabilitySlotService.findSlot(request.getProductId(), request.getStartDt());
+            if (slot.isPresent()) {
+                if (!slot.get().isBookable()) {
+                    return BookingResponseDto.fail("선택한 시간대의 예약이 마감되었습니다.");
+                }
+                request.setSlotId(slot.get().getId());
+            }
+
             // 현재 시간으로 강제 설정-테스트용임
             java.time.LocalDateTime now = java.time.LocalDateTime.now();
             java.time.LocalDateTime endTime = now.plusHours(1);
@@ -55,6 +79,12 @@ public class BookingService {
             // 예약 생성
             int result = bookingMapper.insertBooking(request);
             if(result > 0) {
+                // 좌석 선점은 트랜잭션의 마지막 쓰기 (슬롯 행 잠금 유지 시간 최소화)
+                if (request.getSlotId() != null && !availabilitySlotService.claimSeat(request.getSlotId())) {
+                    TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+                    log.info("예약 슬롯 마감으로 예약 생성 취소: slotId={}", request.getSlotId());
+                    return BookingResponseDto.fail("선택한 시간대의 예약이 마감되었습니다.");
+                }
                 log.info("예약 생성 성공 : id={}", request.getId());
                 return BookingResponseDto.builder()
                         .success(true)
@@ -66,6 +96,7 @@ public class BookingService {
             }
         } catch (Exception e) {
             log.error("예약 조회 중 오류 발생", e);
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return BookingResponseDto.fail("예약 생성 중 오류 발생!!");
         }
     }
@@ -81,7 +112,9 @@ public class BookingService {
     }
     public List<BookingResponseDto> getBookingByUser(Integer userId, BookingSearchRequest request) {
         try {
-            return bookingMapper.selectBookingByUser(userId, request);
+            List<BookingResponseDto> result = bookingMapper.selectBookingByUser(userId, request);
+            attachPetSummaries(result);
+            return result;
         } catch (Exception e) {
             log.error("사용자 예약 목록 조회 중 오류 발생: userId={}", userId, e);
             return List.of();
@@ -94,6 +127,7 @@ public class BookingService {
             log.info("companyId: {}, request: {}", companyId, request);
 
             List<BookingResponseDto> result = bookingMapper.selectBookingByCompany(companyId, request);
+            attachPetSummaries(result);
             log.info("조회된 예약 수: {}", result.size());
 
             if (!result.isEmpty()) {
@@ -108,9 +142,103 @@ public class BookingService {
 
     }
 
+    /**
+     * 예약 목록의 반려동물 이름/정보 일괄 채우기 (페이지 단위 1회 조회)
+     * - SELECTED_PET_IDS 가 있으면 해당 반려동물, 비어있으면 보호자의 전체 반려동물
+     * - 보호자 본인의 반려동물만 포함, 이름순 정렬
+     */
+    private void attachPetSummaries(List<BookingResponseDto> bookings) {
+        if (bookings.isEmpty()) {
+            return;
+        }
+
+        Map<BookingResponseDto, List<Long>> selectedByBooking = new IdentityHashMap<>();
+        Set<Long> petIds = new LinkedHashSet<>();
+        Set<Long> ownerIdsWithoutSelection = new LinkedHashSet<>();
+
+        for (BookingResponseDto booking : bookings) {
+            if (booking.getOwnerUserId() == null) {
+                continue;
+            }
+            String selected = booking.getSelectedPetIds();
+            if (selected == null || selected.isEmpty()) {
+                ownerIdsWithoutSelection.add(booking.getOwnerUserId().longValue());
+                continue;
+            }
+            List<Long> ids = parsePetIds(selected);
+            selectedByBooking.put(booking, ids);
+            petIds.addAll(ids);
+        }
+
+        List<BookingPetSummary> pets = petIds.isEmpty() && ownerIdsWithoutSelection.isEmpty()
+                ? List.of()
+                : bookingMapper.selectPetSummaries(petIds, ownerIdsWithoutSelection);
+
+        Map<Long, BookingPetSummary> petsById = new HashMap<>();
+        Map<Long, List<BookingPetSummary>> petsByOwner = new HashMap<>();
+        for (BookingPetSummary pet : pets) {
+            petsById.put(pet.getId(), pet);
+            petsByOwner.computeIfAbsent(pet.getOwnerUserId(), k -> new ArrayList<>()).add(pet);
+        }
+
+        for (BookingResponseDto booking : bookings) {
+            if (booking.getOwnerUserId() == null) {
+                continue;
+            }
+            Long ownerUserId = booking.getOwnerUserId().longValue();
+            List<Long> selectedIds = selectedByBooking.get(booking);
+
+            List<BookingPetSummary> bookingPets;
+            if (selectedIds == null) {
+                bookingPets = petsByOwner.getOrDefault(ownerUserId, List.of());
+            } else {
+                bookingPets = selectedIds.stream()
+                        .distinct()
+                        .map(petsById::get)
+                        .filter(pet -> pet != null && ownerUserId.equals(pet.getOwnerUserId()))
+                        .toList();
+            }
+
+            if (bookingPets.isEmpty()) {
+                continue; // GROUP_CONCAT 결과와 동일하게 null 유지
+            }
+            List<BookingPetSummary> sorted = bookingPets.stream()
+                    .sorted(Comparator.comparing(BookingPetSummary::getName, Comparator.nullsLast(Comparator.naturalOrder())))
+                    .toList();
+            // GROUP_CONCAT 과 동일하게 NULL 값은 건너뜀
+            booking.setPetNames(joinNonNull(sorted.stream().map(BookingPetSummary::getName).toList()));
+            booking.setPetInfo(joinNonNull(sorted.stream().map(BookingPetSummary::getInfo).toList()));
+        }
+    }
+
+    // 모두 NULL 이면 GROUP_CONCAT 처럼 null 반환
+    private static String joinNonNull(List<String> values) {
+        List<String> present = values.stream().filter(Objects::nonNull).toList();
+        return present.isEmpty() ? null : String.join(", ", present);
+    }
+
+    private List<Long> parsePetIds(String selectedPetIdsJson) {
+        try {
+            JsonNode node = objectMapper.readTree(selectedPetIdsJson);
+            if (node == null || !node.isArray()) {
+                return List.of();
+            }
+            List<Long> ids = new ArrayList<>(node.size());
+            for (JsonNode element : node) {
+                if (element.isIntegralNumber()) {
+                    ids.add(element.asLong());
+                }
+            }
+            return ids;
+        } catch (Exception e) {
+            log.warn("선택된 반려동물 ID 파싱 실패: {}", selectedPetIdsJson);
+            return List.of();
+        }
+    }
+
     public BookingResponseDto updateBookingStatus(Integer id, String status) {
         try {
-            int result = bookingMapper.updateBookingStatus(id, status);
+            int result = changeBookingStatus(id, status);
 
             if(result > 0) {
                 log.info("예약상태 변경 성공 : id={}, status={}", id, status);
@@ -124,6 +252,44 @@ public class BookingService {
         }
     }
 
+    /**
+     * 예약 상태 변경 + 취소/거절 시 선점한 슬롯 좌석 반환, 재활성화 시 좌석 재선점
+     * - 진행 중 -> 취소/거절 전이에서만 반환하므로 중복 취소에도 좌석이 한 번만 반환됨
+     * - 취소/거절 -> 진행 전이는 좌석을 다시 선점, 마감이면 롤백 후 0 반환
+     */
+    private int changeBookingStatus(Integer id, String status) {
+        if (!"2".equals(status) && !"3".equals(status)) {
+            return reactivateOrUpdateStatus(id, status);
+        }
+
+        int released = bookingMapper.updateBookingStatusIfActive(id, status);
+        if (released == 0) {
+            return bookingMapper.updateBookingStatus(id, status); // 이미 취소/거절된 예약
+        }
+
+        Integer slotId = bookingMapper.selectBookingSlotId(id);
+        if (slotId != null) {
+            availabilitySlotService.releaseSeat(slotId);
+            log.info("예약 슬롯 좌석 반환: reservationId={}, slotId={}", id, slotId);
+        }
+        return released;
+    }
+
+    private int reactivateOrUpdateStatus(Integer id, String status) {
+        int reactivated = bookingMapper.updateBookingStatusIfInactive(id, status);
+        if (reactivated == 0) {
+            return bookingMapper.updateBookingStatus(id, status); // 진행 중인 예약끼리의 상태 변경
+        }
+
+        Integer slotId = bookingMapper.selectBookingSlotId(id);
+        if (slotId != null && !availabilitySlotService.claimSeat(slotId)) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            log.info("예약 슬롯 마감으로 예약 재활성화 취소: reservationId={}, slotId={}", id, slotId);
+            return 0;
+        }
+        return reactivated;
+    }
+
     public BookingResponseDto updatePaymentStatus(Integer id, String paymentStatus) {
         try {
             int result = bookingMapper.updatePaymentStatus(id, paymentStatus);
@@ -155,7 +321,7 @@ public class BookingService {
     public BookingResponseDto deleteReservation(Integer id) {
         try {
             // 결제 실패/취소로 인한 예약 삭제는 실제 DB에서 삭제하지 않고 상태를 취소로 변경
-            int result = bookingMapper.updateBookingStatus(id, "3"); // 3 = 예약취소
+            int result = changeBookingStatus(id, "3"); // 3 = 예약취소
 
             if (result > 0) {
                 log.info("결제 실패로 인한 예약 취소 성공: reservationId = {}", id);
@@ -1,14 +1,17 @@
 package com.petmate.domain.booking.service;
 
 import com.petmate.domain.booking.dto.OperatingHours;
+import com.petmate.domain.booking.dto.response.DaySlotSummary;
 import com.petmate.domain.booking.dto.response.TimeSlotResponse;
 import com.petmate.domain.booking.repository.mybatis.BookingMapper;
 import com.petmate.domain.booking.util.OperatingHoursParser;
-import com.petmate.domain.company.dto.response.CompanyResponseDto;
 import com.petmate.domain.company.entity.CompanyEntity;
 import com.petmate.domain.company.service.CompanyService;
+import com.petmate.domain.company.util.OperatingSchedule;
 import com.petmate.domain.product.dto.response.ProductResponseDto;
+import com.petmate.domain.product.entity.AvailabilitySlotEntity;
 import com.petmate.domain.product.entity.ProductEntity;
+import com.petmate.domain.product.service.AvailabilitySlotService;
 import com.petmate.domain.product.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +31,7 @@ public class TimeSlotService {
     private final CompanyService companyService;
     private final BookingMapper bookingMapper;
     private final OperatingHoursParser operatingHoursParser;
+    private final AvailabilitySlotService availabilitySlotService;
 
     public List<TimeSlotResponse> getAvailableTimeSlots(Integer productId, String dateStr) {
 
@@ -49,18 +53,11 @@ public class TimeSlotService {
                 return Collections.emptyList();
             }
 
-            // 업체정보 조회
-            log.info("업체 정보 조회 시작: companyId={}", product.getCompanyId());
-            CompanyResponseDto company = companyService.getCompanyByIdPublic(product.getCompanyId());
-            log.info("업체 정보 조회 완료: {}", company != null ? "성공" : "실패");
-            if (company == null) {
-                return Collections.emptyList();
-            }
+            // 업체 운영시간 조회 (승인된 업체만, 경량 조회)
+            OperatingSchedule schedule = companyService.getPublicOperatingSchedule(product.getCompanyId());
 
             // 운영시간
-            OperatingHours dayHours = operatingHoursParser.parseOperatingHours(
-                    company.getOperatingHours(), date
-            );
+            OperatingHours dayHours = operatingHoursParser.parseOperatingHours(schedule, date);
             log.info("운영시간 파싱 결과: {}", dayHours != null ?
                 (dayHours.isClosed() ? "휴무일" : "영업일 " + dayHours.getStartTime() + "-" + dayHours.getEndTime()) : "null");
 
@@ -69,14 +66,16 @@ public class TimeSlotService {
                 return Collections.emptyList();
             }
 
+            List<AvailabilitySlotEntity> registered = availabilitySlotService.getSlotsForDate(productId, date);
+
             // 종일 서비스
             if(product.getAllDay() == 1) {
                 log.info("종일 서비스로 처리");
-                return createAllDaySlot(product, dayHours, date);
+                return createAllDaySlot(product, dayHours, date, registered);
             }
 
             log.info("일반 시간 슬롯 생성 시작");
-            return createTimeSlots(product, dayHours, date);
+            return createTimeSlots(product, dayHours, date, registered);
 
         } catch (Exception e) {
             log.error("시간 슬롯 생성 오류 : productId={}, date={}", productId, dateStr, e);
@@ -84,6 +83,55 @@ public class TimeSlotService {
         }
     }
 
+    /**
+     * 기간별 예약 현황 (달력 월간 보기용)
+     * - 상품, 업체 영업시간, 등록 슬롯 좌석 현황을 한 번씩만 조회한 뒤 날짜별로 생성
+     */
+    public List<DaySlotSummary> getAvailabilityRange(Integer productId, LocalDate startDate, LocalDate endDate, boolean includeSlots) {
+        try {
+            ProductResponseDto product = productService.getProduct(productId);
+            if (product == null || product.getIsActive() != 1) {
+                return Collections.emptyList();
+            }
+
+            OperatingSchedule schedule = companyService.getPublicOperatingSchedule(product.getCompanyId());
+            Map<LocalDate, List<AvailabilitySlotEntity>> registeredByDate =
+                    availabilitySlotService.getSlotsForRange(productId, startDate, endDate);
+
+            LocalDate today = LocalDate.now();
+            List<DaySlotSummary> days = new ArrayList<>();
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                List<TimeSlotResponse> slots = Collections.emptyList();
+
+                if (!date.isBefore(today)) {
+                    OperatingHours dayHours = operatingHoursParser.parseOperatingHours(schedule, date);
+                    if (dayHours != null && !dayHours.isClosed()) {
+                        List<AvailabilitySlotEntity> registered = registeredByDate.getOrDefault(date, List.of());
+                        slots = product.getAllDay() == 1
+                                ? createAllDaySlot(product, dayHours, date, registered)
+                                : createTimeSlots(product, dayHours, date, registered);
+                    }
+                }
+
+                int available = (int) slots.stream().filter(TimeSlotResponse::isAvailable).count();
+                days.add(DaySlotSummary.builder()
+                        .date(date)
+                        .isOpen(!slots.isEmpty())
+                        .totalSlots(slots.size())
+                        .availableSlots(available)
+                        .slots(includeSlots ? slots : null)
+                        .build());
+            }
+
+            log.info("기간별 예약 현황 생성 완료: productId={}, {} ~ {} ({}일)", productId, startDate, endDate, days.size());
+            return days;
+
+        } catch (Exception e) {
+            log.error("기간별 예약 현황 생성 오류 : productId={}, {} ~ {}", productId, startDate, endDate, e);
+            return Collections.emptyList();
+        }
+    }
+
     public boolean validateTimeSlot(Integer productId, LocalDateTime startDt, LocalDateTime endDt) {
         try {
             if(startDt == null || endDt == null) {
@@ -106,17 +154,11 @@ public class TimeSlotService {
                 return false;
             }
 
-            // 업체 정보 조회
-//            CompanyResponseDto company = companyService.getCompanyById(product.getCompanyId(), null);
-            CompanyResponseDto company = companyService.getCompanyByIdPublic(product.getCompanyId());
-            if(company == null) {
-                return false;
-            }
+            // 업체 운영시간 조회 (승인된 업체만, 경량 조회)
+            OperatingSchedule schedule = companyService.getPublicOperatingSchedule(product.getCompanyId());
 
             // 운영시간 인지
-            OperatingHours dayHours = operatingHoursParser.parseOperatingHours(
-                    company.getOperatingHours(), startDt.toLocalDate()
-            );
+            OperatingHours dayHours = operatingHoursParser.parseOperatingHours(schedule, startDt.toLocalDate());
             if(dayHours == null || dayHours.isClosed()) {
                 return false;
             }
@@ -134,11 +176,15 @@ public class TimeSlotService {
     }
 
     public boolean isTimeSlotAvailable(Integer productId, LocalDateTime startDt, LocalDateTime endDt) {
-        // 임시로 항상 true 반환 (예약 가능)
-        return true;
+        // 예약 슬롯이 등록되지 않은 상품/시간은 제한 없음
+        return availabilitySlotService.findSlot(productId, startDt)
+                .map(AvailabilitySlotEntity::isBookable)
+                .orElse(true);
     }
 
-    private List<TimeSlotResponse> createTimeSlots(ProductResponseDto product, OperatingHours dayHours, LocalDate date) {
+    // package-private: 벤치마크(src/jmh)에서 직접 호출
+    List<TimeSlotResponse> createTimeSlots(ProductResponseDto product, OperatingHours dayHours, LocalDate date,
+                                           List<AvailabilitySlotEntity> registered) {
         List<TimeSlotResponse> slots = new ArrayList<>();
 
         LocalTime startTime = dayHours.getStartTime();
@@ -147,12 +193,18 @@ public class TimeSlotService {
 
         // 24시간 운영인 경우 합리적인 시간대로 제한
         if (startTime.equals(LocalTime.of(0, 0)) && endTime.equals(LocalTime.of(23, 59))) {
-            log.info("24시간 운영 감지, 운영시간을 09:00-21:00으로 조정");
+            log.debug("24시간 운영 감지, 운영시간을 09:00-21:00으로 조정");
             startTime = LocalTime.of(9, 0);
             endTime = LocalTime.of(21, 0);
         }
 
-        log.info("시간 슬롯 생성 파라미터 - 시작: {}, 종료: {}, 지속시간: {}분", startTime, endTime, durationMin);
+        log.debug("시간 슬롯 생성 파라미터 - 시작: {}, 종료: {}, 지속시간: {}분", startTime, endTime, durationMin);
+
+        // 등록된 예약 슬롯의 좌석 현황 (시작시간 기준)
+        Map<LocalTime, AvailabilitySlotEntity> registeredSlots = new HashMap<>();
+        for (AvailabilitySlotEntity slot : registered) {
+            registeredSlots.putIfAbsent(slot.getStartDt().toLocalTime(), slot);
+        }
 
         LocalTime currentTime = startTime;
         int slotCount = 0;
@@ -175,16 +227,18 @@ public class TimeSlotService {
                 continue;
             }
 
-            // 예약 현황 체크 (임시로 비활성화)
-            int currentBookings = 0; // 무조건 0으로 설정 (모든 시간 예약 가능)
-
-            boolean isAvailable = currentBookings == 0;
+            // 예약 현황 체크 (슬롯이 없는 시간은 제한 없음)
+            AvailabilitySlotEntity registeredSlot = registeredSlots.get(currentTime);
+            int currentBookings = registeredSlot != null ? registeredSlot.getBooked() : 0;
+            int maxBookings = registeredSlot != null ? registeredSlot.getCapacity() : 1;
+            boolean isAvailable = registeredSlot == null || registeredSlot.isBookable();
 
             slots.add(TimeSlotResponse.builder()
                     .startTime(currentTime)
                     .endTime(slotEndTime)
                     .isAvailable(isAvailable)
-                    .maxBookings(1)
+                    .currentBookings(currentBookings)
+                    .maxBookings(maxBookings)
                     .price(product.getPrice())
                     .isAllDay(false)
                     .build());
@@ -194,25 +248,28 @@ public class TimeSlotService {
             currentTime = currentTime.plusMinutes(durationMin);
         }
 
-        log.info("총 {}개의 시간 슬롯 생성 완료", slots.size());
+        log.debug("{} 총 {}개의 시간 슬롯 생성 완료", date, slots.size());
         return slots;
     }
 
-    private List<TimeSlotResponse> createAllDaySlot(ProductResponseDto product, OperatingHours dayHours, LocalDate date) {
+    private List<TimeSlotResponse> createAllDaySlot(ProductResponseDto product, OperatingHours dayHours, LocalDate date,
+                                                    List<AvailabilitySlotEntity> registered) {
 
         // 과거날짜 예약 불가
         if(date.isBefore(LocalDate.now())) {
             return Collections.emptyList();
         }
 
-        int currentBookings = 0; // 임시로 비활성화
+        // 종일 상품은 해당 날짜의 첫 슬롯 좌석 현황 사용 (슬롯이 없으면 제한 없음)
+        AvailabilitySlotEntity daySlot = registered.isEmpty() ? null : registered.get(0);
+        int currentBookings = daySlot != null ? daySlot.getBooked() : 0;
 
         return Arrays.asList(TimeSlotResponse.builder()
                         .startTime(dayHours.getStartTime())
                         .endTime(dayHours.getEndTime())
-                        .isAvailable(currentBookings == 0)
+                        .isAvailable(daySlot == null || daySlot.isBookable())
                         .currentBookings(currentBookings)
-                        .maxBookings(1)
+                        .maxBookings(daySlot != null ? daySlot.getCapacity() : 1)
                         .price(product.getPrice())
                         .isAllDay(true)
                         .build());
@@ -180,9 +180,12 @@ public class CompanyController {
             @RequestParam Double longitude,
             @RequestParam(defaultValue = "5.0") Double radius,
             @RequestParam(required = false) String serviceType,
-            @RequestParam(required = false) String keyword
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "30") int limit,
+            @RequestParam(defaultValue = "0") int page
     ) {
-        List<CompanyResponseDto> companies = companyService.getNearbyCompanies(latitude, longitude, radius, serviceType, keyword);
+        List<CompanyResponseDto> companies = companyService.getNearbyCompanies(
+                latitude, longitude, radius, serviceType, keyword, limit, page);
 
         return ResponseEntity.ok(companies);
     }
@@ -0,0 +1,12 @@
+package com.petmate.domain.company.dto.response;
+
+/**
+ * 업체 카탈로그 항목 (상품 등록 화면용 업체 목록)
+ */
+public record CompanyCatalogueItem(
+        Integer id,
+        String name,
+        String services,   // 제공 서비스 (JSON)
+        String repService  // 대표서비스(service_type)
+) {
+}
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 /**
  * 업체 이미지 정보 DTO
  */
@@ -23,4 +25,5 @@ public class CompanyImageDto {
     private Boolean isThumbnail;        // 썸네일 여부
     private String mimeType;            // MIME 타입
     private Long fileSize;              // 파일 크기
+    private Map<Integer, String> variants; // 축소 변형 (가로 크기 -> 파일 경로)
 }
\ No newline at end of file
@@ -40,6 +40,7 @@ public class CompanyResponseDto {
     private BigDecimal longitude;     // 경도
     private Integer createdBy;  // 등록자(FK -> users.id)
     private LocalDateTime createdAt;    // 등록일(기본값: current_timestamp)
+    private LocalDateTime updatedAt;    // 수정일 (영업시간 캐시 버전)
 
     private String currentBusinessStatus;    // "영업중", "영업전", "휴무", "정보없음"
     private String currentBusinessMessage;   // "18:00에 영업 종료", "09:00에 영업 시작"
@@ -0,0 +1,76 @@
+package com.petmate.domain.company.index;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petmate.domain.company.dto.response.CompanyCatalogueItem;
+import com.petmate.domain.company.repository.CompanyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 업체 카탈로그 캐시 (상품 등록 화면용 업체 목록)
+ * - 필요한 컬럼만 조회해 불변 스냅샷으로 보관, 내용 해시를 ETag 로 제공
+ * - 업체 등록/수정/상태변경/삭제 커밋 후 invalidate, 다음 조회 시 재적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompanyCatalogue {
+
+    private final CompanyRepository companyRepository;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public Snapshot get() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        return load();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    private synchronized Snapshot load() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+
+        long loadingGeneration = generation.get();
+        List<CompanyCatalogueItem> items = companyRepository.findCatalogueByOrderByIdAsc().stream()
+                .map(view -> new CompanyCatalogueItem(view.getId(), view.getName(), view.getServices(), view.getRepService()))
+                .toList();
+        Snapshot loaded = new Snapshot(items, etagOf(items));
+
+        // 적재 중 업체 변경이 있었으면 이번 결과는 캐시하지 않음 (다음 조회 시 재적재)
+        if (generation.get() == loadingGeneration) {
+            snapshot = loaded;
+        }
+        log.info("업체 카탈로그 적재 완료 - {}개, etag={}", items.size(), loaded.etag());
+        return loaded;
+    }
+
+    private String etagOf(List<CompanyCatalogueItem> items) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(items);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (Exception e) {
+            throw new IllegalStateException("업체 카탈로그 해시 계산 실패", e);
+        }
+    }
+
+    public record Snapshot(List<CompanyCatalogueItem> items, String etag) {
+    }
+}
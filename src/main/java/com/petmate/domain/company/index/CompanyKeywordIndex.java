@@ -0,0 +1,248 @@
+package com.petmate.domain.company.index;
+
+import com.petmate.domain.company.entity.CompanyEntity;
+import com.petmate.domain.company.repository.CompanyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 승인된 업체 키워드 검색 인덱스 (메모리 상주)
+ * - 업체명, 대표자명, 도로명주소를 소문자 정규화 후 2글자(바이그램) 역색인으로 보관
+ * - 검색어는 공백 단위로 나눠 모든 단어가 어느 필드든 포함된 업체만 반환 (예: "강남 미용")
+ * - 후보는 역색인 교집합으로 좁힌 뒤 원문 포함 여부로 확정, 필드 가중치로 점수 계산
+ * - 업체 등록/수정/상태변경/삭제 시 upsert/remove 로 동기화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompanyKeywordIndex {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int ADDRESS_WEIGHT = 2;
+    private static final int REP_NAME_WEIGHT = 1;
+
+    private final CompanyRepository companyRepository;
+
+    private final Map<Integer, Document> documents = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<Integer>> postings = new ConcurrentHashMap<>(); // 바이그램 -> 업체 ID
+    private volatile boolean loaded = false;
+
+    /**
+     * 업체 정보 반영 (승인 -> 등록/갱신, 그 외 -> 제거)
+     */
+    public synchronized void upsert(CompanyEntity company) {
+        if (company == null || company.getId() == null) {
+            return;
+        }
+        removeDocument(company.getId());
+        if ("A".equals(company.getStatus())) {
+            addDocument(Document.of(company));
+        }
+    }
+
+    public synchronized void remove(Integer companyId) {
+        if (companyId != null) {
+            removeDocument(companyId);
+        }
+    }
+
+    /**
+     * 키워드 검색 (검색어가 비어있으면 null -> 필터 없음)
+     */
+    public Matches search(String keyword) {
+        List<String> terms = terms(keyword);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        ensureLoaded();
+
+        Set<Integer> candidates = null;
+        for (String term : terms) {
+            if (term.length() < 2) {
+                continue; // 한 글자 단어는 역색인으로 좁힐 수 없으므로 확정 단계에서만 검사
+            }
+            candidates = intersect(candidates, candidatesFor(term));
+            if (candidates.isEmpty()) {
+                return new Matches(Map.of());
+            }
+        }
+
+        Map<Integer, Integer> scores = new HashMap<>();
+        Iterable<Integer> ids = candidates != null ? candidates : documents.keySet();
+        for (Integer id : ids) {
+            Document document = documents.get(id);
+            if (document == null) {
+                continue;
+            }
+            int score = document.score(terms);
+            if (score > 0) {
+                scores.put(id, score);
+            }
+        }
+        return new Matches(scores);
+    }
+
+    public int size() {
+        ensureLoaded();
+        return documents.size();
+    }
+
+    // ================================
+    // Private 메서드들
+    // ================================
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            for (CompanyEntity company : companyRepository.findByStatusOrderByCreatedAtDesc("A")) {
+                if (!documents.containsKey(company.getId())) {
+                    addDocument(Document.of(company));
+                }
+            }
+            loaded = true;
+            log.info("업체 키워드 인덱스 적재 완료: {}개", documents.size());
+        }
+    }
+
+    private void addDocument(Document document) {
+        documents.put(document.id(), document);
+        for (int gram : document.grams()) {
+            postings.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(document.id());
+        }
+    }
+
+    private void removeDocument(Integer companyId) {
+        Document previous = documents.remove(companyId);
+        if (previous == null) {
+            return;
+        }
+        for (int gram : previous.grams()) {
+            Set<Integer> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(companyId);
+                if (ids.isEmpty()) {
+                    postings.remove(gram, ids);
+                }
+            }
+        }
+    }
+
+    private Set<Integer> candidatesFor(String term) {
+        Set<Integer> result = null;
+        for (int i = 0; i + 1 < term.length(); i++) {
+            Set<Integer> ids = postings.get(bigram(term, i));
+            if (ids == null) {
+                return Set.of();
+            }
+            result = intersect(result, ids);
+            if (result.isEmpty()) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    private static Set<Integer> intersect(Set<Integer> current, Set<Integer> other) {
+        if (current == null) {
+            return new HashSet<>(other);
+        }
+        current.retainAll(other);
+        return current;
+    }
+
+    private static List<String> terms(String keyword) {
+        String normalized = normalize(keyword).trim();
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        return new ArrayList<>(new LinkedHashSet<>(List.of(normalized.split("\\s+"))));
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    private static int bigram(String text, int index) {
+        return (text.charAt(index) << 16) | text.charAt(index + 1);
+    }
+
+    /**
+     * 검색 결과 (업체 ID -> 점수)
+     */
+    public record Matches(Map<Integer, Integer> scores) {
+
+        public boolean contains(int companyId) {
+            return scores.containsKey(companyId);
+        }
+
+        public int score(int companyId) {
+            return scores.getOrDefault(companyId, 0);
+        }
+
+        public int size() {
+            return scores.size();
+        }
+    }
+
+    private record Document(int id, String name, String repName, String roadAddr, int[] grams) {
+
+        static Document of(CompanyEntity company) {
+            String name = normalize(company.getName());
+            String repName = normalize(company.getRepName());
+            String roadAddr = normalize(company.getRoadAddr());
+
+            Set<Integer> grams = new HashSet<>();
+            for (String field : new String[]{name, repName, roadAddr}) {
+                for (int i = 0; i + 1 < field.length(); i++) {
+                    grams.add(bigram(field, i));
+                }
+            }
+            return new Document(company.getId(), name, repName, roadAddr,
+                    grams.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        /**
+         * 모든 단어가 포함되면 가중치 합계, 하나라도 없으면 0
+         */
+        int score(List<String> terms) {
+            int total = 0;
+            for (String term : terms) {
+                int termScore = 0;
+                if (name.contains(term)) {
+                    termScore += NAME_WEIGHT + (name.startsWith(term) ? 1 : 0);
+                }
+                if (roadAddr.contains(term)) {
+                    termScore += ADDRESS_WEIGHT;
+                }
+                if (repName.contains(term)) {
+                    termScore += REP_NAME_WEIGHT;
+                }
+                if (termScore == 0) {
+                    return 0;
+                }
+                total += termScore;
+            }
+            return total;
+        }
+    }
+}
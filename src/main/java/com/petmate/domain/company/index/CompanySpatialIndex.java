@@ -0,0 +1,377 @@
+package com.petmate.domain.company.index;
+
+import com.petmate.common.util.DistanceCalculatorUtil;
+import com.petmate.domain.company.entity.CompanyEntity;
+import com.petmate.domain.company.repository.CompanyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 승인된 업체 좌표 공간 인덱스 (메모리 상주)
+ * - 위경도를 고정 크기 격자(약 1km)로 나누고, 셀 단위로 업체 좌표를 primitive 배열에 보관
+ * - 반경/최근접 조회 시 DB를 거치지 않음
+ * - 업체 등록/수정/상태변경/삭제 시 upsert/remove 로 동기화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompanySpatialIndex {
+
+    private static final double CELL_SIZE_DEG = 0.01; // 위도 기준 약 1.1km
+
+    private final CompanyRepository companyRepository;
+
+    // 원본 데이터 (업체 ID -> 좌표), 쓰기 시 갱신
+    private final Map<Integer, Point> points = new ConcurrentHashMap<>();
+
+    // 조회용 스냅샷 (쓰기 후 다음 조회 시 재구성)
+    private volatile Snapshot snapshot;
+    private volatile boolean dirty = true;
+    private volatile boolean loaded = false;
+
+    /**
+     * 업체 정보 반영 (승인 + 좌표 있음 -> 등록, 그 외 -> 제거)
+     */
+    public void upsert(CompanyEntity company) {
+        if (company == null || company.getId() == null) {
+            return;
+        }
+        if (!isIndexable(company)) {
+            remove(company.getId());
+            return;
+        }
+        points.put(company.getId(), Point.of(company));
+        dirty = true;
+    }
+
+    public void remove(Integer companyId) {
+        if (companyId != null && points.remove(companyId) != null) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * 반경 내 업체 조회 (거리 오름차순)
+     */
+    public List<Hit> findWithinRadius(double lat, double lng, double radiusKm, String serviceType) {
+        Snapshot s = currentSnapshot();
+        List<Hit> hits = new ArrayList<>();
+        s.scan(lat, lng, radiusKm, serviceType, (id, distance) -> hits.add(new Hit(id, distance)));
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return hits;
+    }
+
+    /**
+     * 반경 내 가장 가까운 k개 업체 조회 (거리 오름차순)
+     */
+    public List<Hit> findNearest(double lat, double lng, double radiusKm, int k, String serviceType) {
+        return findNearest(lat, lng, radiusKm, k, serviceType, id -> true);
+    }
+
+    /**
+     * 반경 내 가장 가까운 k개 업체 조회 (거리 오름차순, filter 통과 업체만)
+     */
+    public List<Hit> findNearest(double lat, double lng, double radiusKm, int k, String serviceType, IntPredicate filter) {
+        return findNearest(lat, lng, radiusKm, k, serviceType, filter, id -> 0);
+    }
+
+    /**
+     * 반경 내 가장 가까운 k개 업체 조회 (거리 오름차순, 같은 거리면 rank 내림차순, filter 통과 업체만)
+     * - 전체 정렬 없이 크기 k의 최대 힙만 유지 (primitive 배열, 후보마다 객체 생성 없음)
+     * - rank: 같은 건물 등 좌표가 같은 업체끼리의 순서 (예: 키워드 점수)
+     */
+    public List<Hit> findNearest(double lat, double lng, double radiusKm, int k, String serviceType,
+                                 IntPredicate filter, IntUnaryOperator rank) {
+        if (k <= 0) {
+            return List.of();
+        }
+        Snapshot s = currentSnapshot();
+        int capacity = Math.min(k, s.size()); // 힙 배열은 실제 업체 수 이상 할당하지 않음
+        if (capacity == 0) {
+            return List.of();
+        }
+        TopK topK = new TopK(capacity);
+        s.scan(lat, lng, radiusKm, serviceType, (id, distance) -> {
+            if (filter.test(id)) {
+                topK.offer(id, distance, rank.applyAsInt(id));
+            }
+        });
+        return topK.sortedHits();
+    }
+
+    public int size() {
+        ensureLoaded();
+        return points.size();
+    }
+
+    // ================================
+    // Private 메서드들
+    // ================================
+
+    private Snapshot currentSnapshot() {
+        ensureLoaded();
+        Snapshot s = snapshot;
+        if (s == null || dirty) {
+            synchronized (this) {
+                if (snapshot == null || dirty) {
+                    dirty = false;
+                    snapshot = Snapshot.build(points.values());
+                }
+                s = snapshot;
+            }
+        }
+        return s;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            List<CompanyEntity> companies = companyRepository.findByStatusOrderByCreatedAtDesc("A");
+            for (CompanyEntity company : companies) {
+                if (isIndexable(company)) {
+                    points.putIfAbsent(company.getId(), Point.of(company));
+                }
+            }
+            dirty = true;
+            loaded = true;
+            log.info("업체 공간 인덱스 적재 완료: {}개", points.size());
+        }
+    }
+
+    private static boolean isIndexable(CompanyEntity company) {
+        return "A".equals(company.getStatus())
+                && company.getLatitude() != null
+                && company.getLongitude() != null;
+    }
+
+    private static long cellKey(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+
+    private static int cellOf(double degree) {
+        return (int) Math.floor(degree / CELL_SIZE_DEG);
+    }
+
+    /**
+     * 인덱스 조회 결과 (업체 ID + 거리)
+     */
+    public record Hit(int companyId, double distanceKm) {
+    }
+
+    @FunctionalInterface
+    private interface HitConsumer {
+        void accept(int companyId, double distanceKm);
+    }
+
+    /**
+     * 거리(같으면 rank 내림차순) 기준 상위 k개 선택 (루트가 가장 뒤 순위 후보인 최대 힙)
+     */
+    private static final class TopK {
+        private final int[] ids;
+        private final double[] distances;
+        private final int[] ranks;
+        private int size;
+
+        TopK(int k) {
+            this.ids = new int[k];
+            this.distances = new double[k];
+            this.ranks = new int[k];
+        }
+
+        void offer(int id, double distance, int rank) {
+            if (size < ids.length) {
+                set(size, id, distance, rank);
+                siftUp(size++);
+            } else if (compare(distance, rank, distances[0], ranks[0]) < 0) {
+                set(0, id, distance, rank);
+                siftDown(0);
+            }
+        }
+
+        List<Hit> sortedHits() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> compare(a, b));
+            List<Hit> hits = new ArrayList<>(size);
+            for (int i : order) {
+                hits.add(new Hit(ids[i], distances[i]));
+            }
+            return hits;
+        }
+
+        // 음수면 a 가 앞 순위 (가까울수록, 같은 거리면 rank 가 높을수록)
+        private static int compare(double distanceA, int rankA, double distanceB, int rankB) {
+            int byDistance = Double.compare(distanceA, distanceB);
+            return byDistance != 0 ? byDistance : Integer.compare(rankB, rankA);
+        }
+
+        private int compare(int a, int b) {
+            return compare(distances[a], ranks[a], distances[b], ranks[b]);
+        }
+
+        private void set(int index, int id, double distance, int rank) {
+            ids[index] = id;
+            distances[index] = distance;
+            ranks[index] = rank;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (compare(parent, index) >= 0) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int left = 2 * index + 1;
+                if (left >= size) {
+                    return;
+                }
+                int largest = left + 1 < size && compare(left + 1, left) > 0 ? left + 1 : left;
+                if (compare(index, largest) >= 0) {
+                    return;
+                }
+                swap(index, largest);
+                index = largest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int id = ids[a];
+            ids[a] = ids[b];
+            ids[b] = id;
+            double distance = distances[a];
+            distances[a] = distances[b];
+            distances[b] = distance;
+            int rank = ranks[a];
+            ranks[a] = ranks[b];
+            ranks[b] = rank;
+        }
+    }
+
+    private record Point(int id, double lat, double lng, String repService) {
+        static Point of(CompanyEntity company) {
+            return new Point(company.getId(),
+                    company.getLatitude().doubleValue(),
+                    company.getLongitude().doubleValue(),
+                    company.getRepService());
+        }
+    }
+
+    /**
+     * 셀 키 기준으로 정렬된 불변 배열 스냅샷
+     */
+    private static final class Snapshot {
+        private final int[] ids;
+        private final double[] lats;
+        private final double[] lngs;
+        private final String[] repServices;
+        private final Map<Long, int[]> cellRanges; // 셀 키 -> [시작, 끝)
+
+        private Snapshot(int[] ids, double[] lats, double[] lngs, String[] repServices, Map<Long, int[]> cellRanges) {
+            this.ids = ids;
+            this.lats = lats;
+            this.lngs = lngs;
+            this.repServices = repServices;
+            this.cellRanges = cellRanges;
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        static Snapshot build(Collection<Point> source) {
+            Point[] sorted = source.toArray(new Point[0]);
+            long[] keys = new long[sorted.length];
+            Arrays.sort(sorted, Comparator.comparingLong(p -> cellKey(cellOf(p.lat()), cellOf(p.lng()))));
+
+            int n = sorted.length;
+            int[] ids = new int[n];
+            double[] lats = new double[n];
+            double[] lngs = new double[n];
+            String[] repServices = new String[n];
+            Map<Long, int[]> cellRanges = new HashMap<>();
+
+            for (int i = 0; i < n; i++) {
+                Point p = sorted[i];
+                ids[i] = p.id();
+                lats[i] = p.lat();
+                lngs[i] = p.lng();
+                repServices[i] = p.repService();
+                keys[i] = cellKey(cellOf(p.lat()), cellOf(p.lng()));
+            }
+
+            int start = 0;
+            for (int i = 1; i <= n; i++) {
+                if (i == n || keys[i] != keys[start]) {
+                    cellRanges.put(keys[start], new int[]{start, i});
+                    start = i;
+                }
+            }
+            return new Snapshot(ids, lats, lngs, repServices, cellRanges);
+        }
+
+        void scan(double lat, double lng, double radiusKm, String serviceType, HitConsumer out) {
+            double latDelta = radiusKm / 111.0; // 위도 1도 ≈ 111km
+            double lngDelta = radiusKm / (111.0 * Math.max(Math.cos(Math.toRadians(lat)), 0.01));
+
+            int minLatCell = cellOf(lat - latDelta);
+            int maxLatCell = cellOf(lat + latDelta);
+            int minLngCell = cellOf(lng - lngDelta);
+            int maxLngCell = cellOf(lng + lngDelta);
+            boolean filterService = serviceType != null && !serviceType.isEmpty();
+
+            // 조회 범위가 전체 셀 수보다 넓으면 전체 순회가 더 저렴
+            long cellCount = (long) (maxLatCell - minLatCell + 1) * (maxLngCell - minLngCell + 1);
+            if (cellCount > cellRanges.size()) {
+                scanRange(0, ids.length, lat, lng, radiusKm, filterService ? serviceType : null, out);
+                return;
+            }
+
+            for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                for (int lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+                    int[] range = cellRanges.get(cellKey(latCell, lngCell));
+                    if (range != null) {
+                        scanRange(range[0], range[1], lat, lng, radiusKm, filterService ? serviceType : null, out);
+                    }
+                }
+            }
+        }
+
+        private void scanRange(int from, int to, double lat, double lng, double radiusKm, String serviceType, HitConsumer out) {
+            for (int i = from; i < to; i++) {
+                if (serviceType != null && !serviceType.equals(repServices[i])) {
+                    continue;
+                }
+                double distance = DistanceCalculatorUtil.calculateDistance(lat, lng, lats[i], lngs[i]);
+                if (distance <= radiusKm) {
+                    out.accept(ids[i], distance);
+                }
+            }
+        }
+    }
+}
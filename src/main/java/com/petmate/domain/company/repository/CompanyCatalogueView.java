@@ -0,0 +1,15 @@
+package com.petmate.domain.company.repository;
+
+/**
+ * 업체 카탈로그 적재용 프로젝션
+ */
+public interface CompanyCatalogueView {
+
+    Integer getId();
+
+    String getName();
+
+    String getServices();
+
+    String getRepService();
+}
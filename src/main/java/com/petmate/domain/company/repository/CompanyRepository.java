@@ -5,7 +5,6 @@ import org.apache.ibatis.annotations.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +13,19 @@ public interface CompanyRepository extends JpaRepository<CompanyEntity, Integer>
     // 특정 사용자가 등록한 업체 목록 등록일 내림차순으로 조회
     List<CompanyEntity> findByCreatedByOrderByCreatedAtDesc(Integer createdBy);
 
+    // 업체 경량 조회 (내부 조회용 프로젝션)
+    Optional<CompanySummary> findSummaryById(Integer id);
+
+    // 특정 사용자가 등록한 업체 경량 목록 (등록일 내림차순)
+    List<CompanySummary> findSummariesByCreatedByOrderByCreatedAtDesc(Integer createdBy);
+
+    // 특정 사용자가 등록한 업체 ID 목록
+    @Query("SELECT c.id FROM CompanyEntity c WHERE c.createdBy = :createdBy ORDER BY c.createdAt DESC")
+    List<Integer> findIdsByCreatedBy(@Param("createdBy") Integer createdBy);
+
+    // 업체 카탈로그 적재 (상품 등록용 업체 목록)
+    List<CompanyCatalogueView> findCatalogueByOrderByIdAsc();
+
     // 업체 아이디와 등록자 아이디로 업체 조회
     Optional<CompanyEntity> findByIdAndCreatedBy(Integer id, Integer createdBy);
 
@@ -30,20 +42,4 @@ public interface CompanyRepository extends JpaRepository<CompanyEntity, Integer>
     // 특정 상태의 업체 목록을 등록일 내림차순으로 조회(관리자용)
     List<CompanyEntity> findByStatusOrderByCreatedAtDesc(String status);
 
-    // 지리적 범위 내 업체 조회 (성능 최적화)
-    @Query("""
-        SELECT c FROM CompanyEntity c
-        WHERE c.status = 'A'
-        AND c.latitude IS NOT NULL
-        AND c.longitude IS NOT NULL
-        AND c.latitude BETWEEN :minLat AND :maxLat
-        AND c.longitude BETWEEN :minLng AND :maxLng
-        ORDER BY c.createdAt DESC
-    """)
-    List<CompanyEntity> findNearbyCompanies(
-        @Param("minLat") BigDecimal minLat,
-        @Param("maxLat") BigDecimal maxLat,
-        @Param("minLng") BigDecimal minLng,
-        @Param("maxLng") BigDecimal maxLng
-    );
 }
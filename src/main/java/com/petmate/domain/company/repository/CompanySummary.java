@@ -0,0 +1,31 @@
+package com.petmate.domain.company.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 업체 경량 조회용 프로젝션 (내부 조회 전용, 응답 DTO 매핑 없음)
+ * - 필요한 컬럼만 SELECT 하며 이미지/서비스/영업상태 계산을 하지 않음
+ */
+public interface CompanySummary {
+
+    Integer getId();
+
+    String getName();
+
+    String getStatus();
+
+    String getRepService();
+
+    String getOperatingHours();
+
+    LocalDateTime getUpdatedAt(); // 컴파일된 영업시간 캐시 버전
+
+    BigDecimal getLatitude();
+
+    BigDecimal getLongitude();
+
+    default boolean isApproved() {
+        return "A".equals(getStatus());
+    }
+}
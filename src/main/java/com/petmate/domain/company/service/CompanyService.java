@@ -1,5 +1,6 @@
 package com.petmate.domain.company.service;
 
+import com.petmate.common.image.ImageVariants;
 import com.petmate.common.service.ImageService;
 import com.petmate.common.util.CodeUtil;
 import com.petmate.common.entity.ImageEntity;
@@ -10,18 +11,30 @@ import com.petmate.domain.company.dto.response.BusinessInfoResponseDto;
 import com.petmate.domain.company.dto.response.CompanyResponseDto;
 import com.petmate.domain.company.dto.response.CompanyImageDto;
 import com.petmate.domain.company.entity.CompanyEntity;
+import com.petmate.domain.company.index.CompanyCatalogue;
+import com.petmate.domain.company.index.CompanyKeywordIndex;
+import com.petmate.domain.company.index.CompanySpatialIndex;
 import com.petmate.domain.company.repository.CompanyRepository;
+import com.petmate.domain.company.repository.CompanySummary;
 import com.petmate.domain.company.util.BusinessHoursCalculator;
+import com.petmate.domain.company.util.OperatingSchedule;
+import com.petmate.domain.company.util.OperatingScheduleCache;
 import com.petmate.domain.company.util.ServiceParser;
-import com.petmate.common.util.DistanceCalculatorUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -29,13 +42,52 @@ import java.util.Map;
 @Transactional(readOnly = true)
 public class CompanyService {
 
+    private static final int MAX_NEARBY_LIMIT = 100;
+    private static final int MAX_NEARBY_OFFSET = 1000; // 근처 업체 페이지 조회 최대 시작 위치 (이후 페이지는 빈 결과)
+
     private final CompanyRepository companyRepository;
     private final CodeUtil codeUtil;
     private final ImageService imageService;
     private final ImageRepository imageRepository;
+    private final CompanySpatialIndex companySpatialIndex;
+    private final CompanyKeywordIndex companyKeywordIndex;
+    private final OperatingScheduleCache operatingScheduleCache;
+    private final CompanyCatalogue companyCatalogue;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /**
+     * 업체 등록
+     * - 업체 저장은 짧은 트랜잭션으로 먼저 커밋하고, 이미지 업로드(S3 + 변형 생성)는 트랜잭션 밖에서 수행 (업로드 동안 DB 커넥션 미점유)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CompanyResponseDto registerCompany(CompanyRegisterRequestDto dto, Integer userId) {
+        CompanyEntity savedCompany = transactionTemplate.execute(status -> saveNewCompany(dto, userId));
+
+        // 업체 이미지 저장 (IMAGE_TYPE: 03 - COMPANY_REG)
+        if (dto.getImages() != null && !dto.getImages().isEmpty()) {
+            try {
+                // 이미지 저장용 reference_id 생성 (개인업체도 bizRegNo 사용)
+                String imageReferenceId = savedCompany.getBizRegNo();
+
+                imageService.uploadMultipleImages(
+                        dto.getImages(),        // 업로드할 파일들
+                        "03",                   // IMAGE_TYPE 코드 (COMPANY_REG)
+                        imageReferenceId,       // bizRegNo 사용
+                        true                    // 첫 번째 이미지를 썸네일로 설정
+                );
+            } catch (Exception e) {
+                log.error("업체 이미지 저장 중 오류 발생: {}", e.getMessage(), e);
+                // 이미지 저장 실패해도 업체 등록은 완료되도록 처리
+            }
+        }
+
+        return mapToResponseDto(savedCompany);
+    }
+
+    /**
+     * 업체 등록 검증 + 저장 (registerCompany 의 트랜잭션 구간)
+     */
+    private CompanyEntity saveNewCompany(CompanyRegisterRequestDto dto, Integer userId) {
         log.info("=== 업체 등록 시작 ===");
         log.info("userId: {}", String.valueOf(userId));
         log.info("dto.getType(): {}", dto.getType());
@@ -117,26 +169,8 @@ public class CompanyService {
         CompanyEntity company = builder.build();
 
         CompanyEntity savedCompany = companyRepository.save(company);
-
-        // 업체 이미지 저장 (IMAGE_TYPE: 03 - COMPANY_REG)
-        if (dto.getImages() != null && !dto.getImages().isEmpty()) {
-            try {
-                // 이미지 저장용 reference_id 생성 (개인업체도 bizRegNo 사용)
-                String imageReferenceId = savedCompany.getBizRegNo();
-
-                imageService.uploadMultipleImages(
-                        dto.getImages(),        // 업로드할 파일들
-                        "03",                   // IMAGE_TYPE 코드 (COMPANY_REG)
-                        imageReferenceId,       // bizRegNo 사용
-                        true                    // 첫 번째 이미지를 썸네일로 설정
-                );
-            } catch (Exception e) {
-                log.error("업체 이미지 저장 중 오류 발생: {}", e.getMessage(), e);
-                // 이미지 저장 실패해도 업체 등록은 완료되도록 처리
-            }
-        }
-
-        return mapToResponseDto(savedCompany);
+        syncCompanyIndexes(savedCompany);
+        return savedCompany;
     }
 
     /**
@@ -156,6 +190,46 @@ public class CompanyService {
     }
 
 
+    /**
+     * 업체 경량 조회 (내부 조회용: 타임슬롯, 상품 등)
+     * 필요한 컬럼만 조회하며 이미지/응답 DTO 매핑을 하지 않음
+     */
+    public CompanySummary getCompanySummary(Integer id) {
+        return companyRepository.findSummaryById(id)
+                .orElseThrow(() -> new IllegalArgumentException("업체를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 승인된 업체의 컴파일된 영업시간 (타임슬롯 조회/검증용)
+     */
+    public OperatingSchedule getPublicOperatingSchedule(Integer id) {
+        CompanySummary company = getCompanySummary(id);
+
+        if (!company.isApproved()) {
+            throw new IllegalArgumentException("승인되지 않은 업체입니다.");
+        }
+
+        return getOperatingSchedule(company);
+    }
+
+    public OperatingSchedule getOperatingSchedule(CompanySummary company) {
+        return operatingScheduleCache.get(company.getId(), company.getUpdatedAt(), company.getOperatingHours());
+    }
+
+    /**
+     * 사용자가 등록한 업체 경량 목록 (등록일 내림차순, 상품 등록 화면 등)
+     */
+    public List<CompanySummary> getMyCompanySummaries(Integer userId) {
+        return companyRepository.findSummariesByCreatedByOrderByCreatedAtDesc(userId);
+    }
+
+    /**
+     * 사용자가 등록한 업체 ID 목록 (등록일 내림차순)
+     */
+    public List<Integer> getMyCompanyIds(Integer userId) {
+        return companyRepository.findIdsByCreatedBy(userId);
+    }
+
     public CompanyResponseDto getCompanyById(Integer id, Integer userId) {
         CompanyEntity company = companyRepository.findByIdAndCreatedBy(id, userId)
                 .orElseThrow(() -> new IllegalArgumentException("업체를 찾을 수 없습니다."));
@@ -187,6 +261,7 @@ public class CompanyService {
         company.setUpdatedAt(java.time.LocalDateTime.now());
 
         CompanyEntity savedCompany = companyRepository.save(company);
+        syncCompanyIndexes(savedCompany);
         return mapToResponseDto(savedCompany);
     }
 
@@ -195,6 +270,7 @@ public class CompanyService {
         CompanyEntity company = companyRepository.findByIdAndCreatedBy(id, userId)
                 .orElseThrow(() -> new IllegalArgumentException("업체를 찾을 수 없습니다."));
         companyRepository.delete(company);
+        removeFromCompanyIndexes(company.getId());
     }
 
     @Transactional
@@ -212,14 +288,12 @@ public class CompanyService {
 
         company.setStatus(statusCode);
         CompanyEntity savedCompany = companyRepository.save(company);
+        syncCompanyIndexes(savedCompany);
         return mapToResponseDto(savedCompany);
     }
 
     public List<CompanyResponseDto> getMyCompanies(Integer userId) {
-        return companyRepository.findByCreatedByOrderByCreatedAtDesc(userId)
-                .stream()
-                .map(this::mapToResponseDto)
-                .toList();
+        return mapToResponseDtos(companyRepository.findByCreatedByOrderByCreatedAtDesc(userId), ImageLoadMode.FULL);
     }
 
     /**
@@ -241,21 +315,53 @@ public class CompanyService {
     // Private 메서드들
     // ================================
 
+    /**
+     * 목록 매핑 시 이미지 로딩 방식
+     * - FULL: 업체별 전체 갤러리
+     * - THUMBNAIL: 업체별 썸네일 1장 (목록 화면용)
+     */
+    private enum ImageLoadMode {
+        FULL, THUMBNAIL
+    }
+
     /**
      * Entity → ResponseDto 매핑 (공통코드명 포함)
      */
     private CompanyResponseDto mapToResponseDto(CompanyEntity entity) {
+        // 업체 이미지 조회 (개인업체도 bizRegNo 사용)
+        return mapToResponseDto(entity, getCompanyImages(entity.getBizRegNo()));
+    }
 
-        // 계산 로직 실행
-        Map<String, String> businessStatus = BusinessHoursCalculator.calculateCurrentBusinessStatus(entity.getOperatingHours());
-        String todayHours = BusinessHoursCalculator.calculateTodayHours(entity.getOperatingHours());
-        List<String> serviceNames = ServiceParser.parseServices(entity.getServices(), entity.getRepService());
-        List<Map<String, String>> weeklySchedule = BusinessHoursCalculator.calculateWeeklySchedule(entity.getOperatingHours());
+    /**
+     * Entity 목록 → ResponseDto 목록 매핑 (이미지는 IN 쿼리 1회로 일괄 조회, 입력 순서 유지)
+     */
+    private List<CompanyResponseDto> mapToResponseDtos(List<CompanyEntity> entities, ImageLoadMode mode) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
 
-        // 업체 이미지 조회 (개인업체도 bizRegNo 사용)
-        String imageReferenceId = entity.getBizRegNo();
-        List<CompanyImageDto> images = getCompanyImages(imageReferenceId);
+        List<String> bizRegNos = entities.stream()
+                .map(CompanyEntity::getBizRegNo)
+                .filter(bizRegNo -> bizRegNo != null && !bizRegNo.trim().isEmpty())
+                .distinct()
+                .toList();
+
+        Map<String, List<CompanyImageDto>> imagesByBizRegNo = getCompanyImagesBatch(bizRegNos, mode);
+
+        return entities.stream()
+                .map(entity -> mapToResponseDto(entity,
+                        imagesByBizRegNo.getOrDefault(entity.getBizRegNo(), List.of())))
+                .toList();
+    }
 
+    private CompanyResponseDto mapToResponseDto(CompanyEntity entity, List<CompanyImageDto> images) {
+
+        // 계산 로직 실행 (영업시간은 업체 버전별로 한 번만 컴파일)
+        OperatingSchedule schedule = operatingScheduleCache.get(entity.getId(), entity.getUpdatedAt(), entity.getOperatingHours());
+        Map<String, String> businessStatus = BusinessHoursCalculator.calculateCurrentBusinessStatus(schedule);
+        String todayHours = BusinessHoursCalculator.calculateTodayHours(schedule);
+        List<String> serviceNames = ServiceParser.parseServices(entity.getServices(), entity.getRepService());
+        List<Map<String, String>> weeklySchedule = BusinessHoursCalculator.calculateWeeklySchedule(schedule);
 
         return CompanyResponseDto.builder()
                 .id(entity.getId())
@@ -277,6 +383,7 @@ public class CompanyService {
                 .longitude(entity.getLongitude ())
                 .createdBy(entity.getCreatedBy())
                 .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
                 .descText(entity.getDescText())
                 // 계산된 필드 추가
                 .currentBusinessStatus(businessStatus.get("status"))
@@ -288,6 +395,39 @@ public class CompanyService {
                 .build();
     }
 
+    /**
+     * 메모리 인덱스 동기화 (트랜잭션 커밋 이후 반영)
+     */
+    private void syncCompanyIndexes(CompanyEntity company) {
+        afterCommit(() -> {
+            companySpatialIndex.upsert(company);
+            companyKeywordIndex.upsert(company);
+            companyCatalogue.invalidate();
+        });
+    }
+
+    private void removeFromCompanyIndexes(Integer companyId) {
+        afterCommit(() -> {
+            companySpatialIndex.remove(companyId);
+            companyKeywordIndex.remove(companyId);
+            operatingScheduleCache.evict(companyId);
+            companyCatalogue.invalidate();
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     /**
      * 업체 이미지 조회 (reference_id = biz_no, reference_type = "03")
      */
@@ -300,18 +440,7 @@ public class CompanyService {
             List<ImageEntity> imageEntities = imageRepository.findActiveImagesByReference("03", bizRegNo);
 
             return imageEntities.stream()
-                    .map(image -> CompanyImageDto.builder()
-                                .id(image.getId())
-                                .filePath(image.getFilePath())
-                                .originalName(image.getOriginalName())
-                                .altText(image.getAltText())
-                                .description(image.getDescription())
-                                .displayOrder(image.getDisplayOrder())
-                                .isThumbnail("Y".equals(image.getIsThumbnail()))
-                                .mimeType(image.getMimeType())
-                                .fileSize(image.getFileSize())
-                                .build()
-                    )
+                    .map(this::toCompanyImageDto)
                     .toList();
         } catch (Exception e) {
             log.error("업체 이미지 조회 중 오류 발생 - bizRegNo: {}, error: {}", bizRegNo, e.getMessage(), e);
@@ -319,6 +448,43 @@ public class CompanyService {
         }
     }
 
+    /**
+     * 여러 업체 이미지 일괄 조회 (bizRegNo -> 이미지 목록)
+     */
+    private Map<String, List<CompanyImageDto>> getCompanyImagesBatch(List<String> bizRegNos, ImageLoadMode mode) {
+        if (bizRegNos.isEmpty()) {
+            return Map.of();
+        }
+
+        try {
+            List<ImageEntity> imageEntities = mode == ImageLoadMode.THUMBNAIL
+                    ? imageRepository.findThumbnailsByReferenceIds("03", bizRegNos)
+                    : imageRepository.findActiveImagesByReferenceIds("03", bizRegNos);
+
+            return imageEntities.stream()
+                    .collect(Collectors.groupingBy(ImageEntity::getReferenceId,
+                            Collectors.mapping(this::toCompanyImageDto, Collectors.toList())));
+        } catch (Exception e) {
+            log.error("업체 이미지 일괄 조회 중 오류 발생 - 업체 수: {}, error: {}", bizRegNos.size(), e.getMessage(), e);
+            return Map.of(); // 오류 시 이미지 없이 반환
+        }
+    }
+
+    private CompanyImageDto toCompanyImageDto(ImageEntity image) {
+        return CompanyImageDto.builder()
+                .id(image.getId())
+                .filePath(image.getFilePath())
+                .originalName(image.getOriginalName())
+                .altText(image.getAltText())
+                .description(image.getDescription())
+                .displayOrder(image.getDisplayOrder())
+                .isThumbnail("Y".equals(image.getIsThumbnail()))
+                .mimeType(image.getMimeType())
+                .fileSize(image.getFileSize())
+                .variants(ImageVariants.parse(image.getVariantKeys()))
+                .build();
+    }
+
     /**
      * 개인업체 biz_reg_no 자동 생성 (생년월일 + 순차번호)
      */
@@ -399,56 +565,67 @@ public class CompanyService {
             Double userLng,
             Double radiusKm,
             String serviceType,
-            String keyword
+            String keyword,
+            int limit,
+            int page
     ) {
-        log.info("근처 업체 조회 시작 - 위치: ({}, {}), 반경: {}km, 서비스타입: {}",
-                userLat, userLng, radiusKm, serviceType);
-
-        // 1. 사각형 범위 계산 (대략적인 지리적 필터링)
-        double latDelta = radiusKm / 111.0; // 위도 1도 ≈ 111km
-        double lngDelta = radiusKm / (111.0 * Math.cos(Math.toRadians(userLat))); // 경도는 위도에 따라 변함
-
-        BigDecimal minLat = BigDecimal.valueOf(userLat - latDelta);
-        BigDecimal maxLat = BigDecimal.valueOf(userLat + latDelta);
-        BigDecimal minLng = BigDecimal.valueOf(userLng - lngDelta);
-        BigDecimal maxLng = BigDecimal.valueOf(userLng + lngDelta);
-
-        log.info("사각형 범위 - 위도: {} ~ {}, 경도: {} ~ {}",
-                minLat, maxLat, minLng, maxLng);
-
-        // 2. 사각형 범위로 DB에서 미리 필터링 (성능 최적화)
-        List<CompanyEntity> nearbyCompanies = companyRepository.findNearbyCompanies(
-                minLat, maxLat, minLng, maxLng);
-
-        log.info("DB에서 필터링된 업체 수: {}개", nearbyCompanies.size());
-
-        // 3. 줄어든 데이터로만 정확한 거리 계산 및 최종 필터링
-        return nearbyCompanies.stream()
-                .map(company -> {
-                    // 정확한 거리 계산
-                    double distance = DistanceCalculatorUtil.calculateDistance(
-                            userLat,
-                            userLng,
-                            company.getLatitude().doubleValue(),
-                            company.getLongitude().doubleValue()
-                    );
-
-                    // DTO 생성 후 거리 설정
-                    CompanyResponseDto companyResponseDto = mapToResponseDto(company);
-                    companyResponseDto.setDistanceKm(distance);
-
-                    return companyResponseDto;
-                })
-                .filter(dto -> dto.getDistanceKm() <= radiusKm) // 정확한 반경 내 업체만
-                .filter(dto -> serviceType == null || serviceType.isEmpty() ||
-                        dto.getRepService().equals(serviceType)) // 서비스 타입 필터
-                .filter(dto -> keyword == null || keyword.trim().isEmpty() ||
-                        dto.getName().toLowerCase().contains(keyword.toLowerCase().trim()) ||
-                        dto.getRepName().toLowerCase().contains(keyword.toLowerCase().trim()) ||
-                        dto.getRoadAddr().toLowerCase().contains(keyword.toLowerCase().trim())) // 키워드 필터
-                .sorted((a, b) -> Double.compare(a.getDistanceKm(), b.getDistanceKm())) // 거리순 정렬
-                .limit(30) // 성능을 위해 최대 30개로 제한
-                .toList();
+        log.info("근처 업체 조회 시작 - 위치: ({}, {}), 반경: {}km, 서비스타입: {}, limit: {}, page: {}",
+                userLat, userLng, radiusKm, serviceType, limit, page);
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_NEARBY_LIMIT));
+        int pageIndex = Math.max(0, page);
+        if (pageIndex > MAX_NEARBY_OFFSET / pageSize) {
+            log.info("근처 업체 조회 페이지 범위 초과 - page: {}, limit: {}", page, pageSize);
+            return List.of();
+        }
+        int offset = Math.multiplyExact(pageIndex, pageSize);
+
+        // 1. 키워드 인덱스 검색 (검색어 없으면 필터 없음)
+        CompanyKeywordIndex.Matches matches = companyKeywordIndex.search(keyword);
+        if (matches != null && matches.size() == 0) {
+            return List.of();
+        }
+
+        // 2. 메모리 공간 인덱스에서 요청 페이지까지의 최근접 업체만 선택 (전체 정렬 없이 top-K, DB 미사용)
+        //    같은 거리(같은 건물 등)면 키워드 점수가 높은 업체 우선
+        List<CompanySpatialIndex.Hit> nearest = companySpatialIndex.findNearest(
+                userLat, userLng, radiusKm, offset + pageSize, serviceType,
+                matches == null ? id -> true : matches::contains,
+                matches == null ? id -> 0 : matches::score);
+
+        log.info("공간 인덱스 최근접 업체 수: {}개", nearest.size());
+
+        if (nearest.size() <= offset) {
+            return List.of();
+        }
+        List<CompanySpatialIndex.Hit> selected = nearest.subList(offset, nearest.size());
+
+        if (selected.isEmpty()) {
+            return List.of();
+        }
+
+        // 3. 선택된 업체만 PK로 조회
+        Map<Integer, CompanyEntity> companiesById = companyRepository.findAllById(
+                        selected.stream().map(CompanySpatialIndex.Hit::companyId).toList())
+                .stream()
+                .collect(Collectors.toMap(CompanyEntity::getId, Function.identity()));
+
+        List<CompanyEntity> companies = new ArrayList<>();
+        List<Double> distances = new ArrayList<>();
+        for (CompanySpatialIndex.Hit hit : selected) {
+            CompanyEntity company = companiesById.get(hit.companyId());
+            if (company != null) {
+                companies.add(company);
+                distances.add(hit.distanceKm());
+            }
+        }
+
+        // 4. 선택된 업체만 DTO 변환 (업체 카드용 썸네일만 일괄 조회) 후 거리 설정
+        List<CompanyResponseDto> result = mapToResponseDtos(companies, ImageLoadMode.THUMBNAIL);
+        for (int i = 0; i < result.size(); i++) {
+            result.get(i).setDistanceKm(distances.get(i));
+        }
+        return result;
     }
 
     // 개인 업체 등록 여부 확인 (createdBy 기반)
@@ -528,27 +705,10 @@ public class CompanyService {
     }
 
     /**
-     * 모든 승인된 업체 조회 (상품 등록용)
+     * 업체 카탈로그 (상품 등록용, 캐시 + ETag)
      */
-    public List<CompanyResponseDto> getAllApprovedCompanies() {
-        log.info("모든 승인된 업체 조회 시작");
-
-        // 승인된 업체들만 조회 (임시로 모든 업체 조회하도록 수정)
-        List<CompanyEntity> companies = companyRepository.findAll();
-        log.info("전체 업체 {} 개 조회됨", companies.size());
-
-        // 각 업체의 서비스 정보 로깅
-        companies.forEach(company -> {
-            log.info("업체 [{}] - ID: {}, Services: {}, RepService: {}",
-                    company.getName(), company.getId(), company.getServices(), company.getRepService());
-        });
-
-        List<CompanyResponseDto> result = companies.stream()
-                .map(this::mapToResponseDto)
-                .toList();
-
-        log.info("변환된 업체 {} 개 반환", result.size());
-        return result;
+    public CompanyCatalogue.Snapshot getCompanyCatalogue() {
+        return companyCatalogue.get();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,187 @@
+package com.petmate.domain.company.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 컴파일된 주간 영업시간 (불변)
+ * - operating_hours JSON 을 한 번만 파싱해 요일별 개점/폐점 분(minute-of-day)과 표시 문자열로 보관
+ * - BusinessHoursCalculator, OperatingHoursParser 는 이 객체로 계산 (JSON 파싱 / LocalTime.parse 없음)
+ * - 요일 인덱스: DayOfWeek.getValue() - 1 (0=월요일 ... 6=일요일)
+ */
+@Slf4j
+public final class OperatingSchedule {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String[] DAY_KEYS = {"월요일", "화요일", "수요일", "목요일", "금요일", "토요일", "일요일"};
+
+    // 요일별 상태
+    static final byte DAY_MISSING = 0; // 해당 요일 정보 없음
+    static final byte DAY_CLOSED = 1;  // 휴무
+    static final byte DAY_OPEN = 2;    // 영업
+
+    private static final OperatingSchedule UNKNOWN = new OperatingSchedule(false, false, null, null, null, null, null, null, null);
+
+    private final boolean known;       // JSON 존재 + 파싱 성공
+    private final boolean allDay;      // 24시간 영업
+    private final byte[] dayStates;    // null 이면 schedule 필드 없음
+    private final int[] openMinutes;   // 개점 (분), 정보 없으면 -1
+    private final int[] closeMinutes;  // 폐점 (분), 정보 없으면 -1
+    private final String[] openTexts;  // 원본 표시 문자열 (없으면 null)
+    private final String[] closeTexts;
+    private final LocalTime[] slotStartTimes; // 예약 슬롯용 시간 (파싱 불가 시 null)
+    private final LocalTime[] slotEndTimes;
+
+    private OperatingSchedule(boolean known, boolean allDay, byte[] dayStates,
+                              int[] openMinutes, int[] closeMinutes,
+                              String[] openTexts, String[] closeTexts,
+                              LocalTime[] slotStartTimes, LocalTime[] slotEndTimes) {
+        this.known = known;
+        this.allDay = allDay;
+        this.dayStates = dayStates;
+        this.openMinutes = openMinutes;
+        this.closeMinutes = closeMinutes;
+        this.openTexts = openTexts;
+        this.closeTexts = closeTexts;
+        this.slotStartTimes = slotStartTimes;
+        this.slotEndTimes = slotEndTimes;
+    }
+
+    /**
+     * operating_hours JSON 컴파일 (비어있거나 잘못된 JSON 이면 "정보없음" 스케줄)
+     */
+    public static OperatingSchedule compile(String operatingHoursJson) {
+        if (operatingHoursJson == null || operatingHoursJson.trim().isEmpty()) {
+            return UNKNOWN;
+        }
+
+        try {
+            JsonNode root = objectMapper.readTree(operatingHoursJson);
+
+            if (root.has("allDay") && root.get("allDay").asBoolean()) {
+                return new OperatingSchedule(true, true, null, null, null, null, null, null, null);
+            }
+
+            if (!root.has("schedule")) {
+                return new OperatingSchedule(true, false, null, null, null, null, null, null, null);
+            }
+
+            JsonNode schedule = root.get("schedule");
+            byte[] dayStates = new byte[7];
+            int[] openMinutes = new int[7];
+            int[] closeMinutes = new int[7];
+            String[] openTexts = new String[7];
+            String[] closeTexts = new String[7];
+            LocalTime[] slotStartTimes = new LocalTime[7];
+            LocalTime[] slotEndTimes = new LocalTime[7];
+
+            for (int i = 0; i < 7; i++) {
+                JsonNode dayNode = schedule.get(DAY_KEYS[i]);
+                openMinutes[i] = -1;
+                closeMinutes[i] = -1;
+
+                if (dayNode == null) {
+                    dayStates[i] = DAY_MISSING;
+                    continue;
+                }
+                if (dayNode.has("closed") && dayNode.get("closed").asBoolean()) {
+                    dayStates[i] = DAY_CLOSED;
+                    continue;
+                }
+
+                dayStates[i] = DAY_OPEN;
+                openTexts[i] = dayNode.has("open") ? dayNode.get("open").asText() : null;
+                closeTexts[i] = dayNode.has("close") ? dayNode.get("close").asText() : null;
+                if (openTexts[i] != null) openMinutes[i] = toMinuteOfDay(openTexts[i]);
+                if (closeTexts[i] != null) closeMinutes[i] = toMinuteOfDay(closeTexts[i]);
+                slotStartTimes[i] = toLocalTime(openTexts[i] != null ? openTexts[i] : "09:00");
+                slotEndTimes[i] = toLocalTime(closeTexts[i] != null ? closeTexts[i] : "18:00");
+            }
+
+            return new OperatingSchedule(true, false, dayStates, openMinutes, closeMinutes,
+                    openTexts, closeTexts, slotStartTimes, slotEndTimes);
+
+        } catch (Exception e) {
+            log.error("영업시간 컴파일 중 오류:", e);
+            return UNKNOWN;
+        }
+    }
+
+    public boolean isKnown() {
+        return known;
+    }
+
+    public boolean isAllDay() {
+        return allDay;
+    }
+
+    public boolean hasSchedule() {
+        return dayStates != null;
+    }
+
+    byte dayState(DayOfWeek dayOfWeek) {
+        return dayStates[dayOfWeek.getValue() - 1];
+    }
+
+    int openMinute(DayOfWeek dayOfWeek) {
+        return openMinutes[dayOfWeek.getValue() - 1];
+    }
+
+    int closeMinute(DayOfWeek dayOfWeek) {
+        return closeMinutes[dayOfWeek.getValue() - 1];
+    }
+
+    String openText(DayOfWeek dayOfWeek) {
+        return openTexts[dayOfWeek.getValue() - 1];
+    }
+
+    String closeText(DayOfWeek dayOfWeek) {
+        return closeTexts[dayOfWeek.getValue() - 1];
+    }
+
+    /**
+     * 예약 슬롯용 시작/종료 시간 (개점/폐점 미기재 시 09:00/18:00, 형식 오류 시 null)
+     */
+    public LocalTime slotStartTime(DayOfWeek dayOfWeek) {
+        return slotStartTimes[dayOfWeek.getValue() - 1];
+    }
+
+    public LocalTime slotEndTime(DayOfWeek dayOfWeek) {
+        return slotEndTimes[dayOfWeek.getValue() - 1];
+    }
+
+    public boolean isDayMissing(DayOfWeek dayOfWeek) {
+        return dayState(dayOfWeek) == DAY_MISSING;
+    }
+
+    public boolean isDayClosed(DayOfWeek dayOfWeek) {
+        return dayState(dayOfWeek) == DAY_CLOSED;
+    }
+
+    /**
+     * 시간 문자열을 분 단위로 변환 (예: "09:30" -> 570, 실패 시 0)
+     */
+    private static int toMinuteOfDay(String timeStr) {
+        try {
+            int hhmm = Integer.parseInt(timeStr.replace(":", ""));
+            return (hhmm / 100) * 60 + (hhmm % 100);
+        } catch (Exception e) {
+            log.warn("시간 파싱 실패: {}", timeStr);
+            return 0;
+        }
+    }
+
+    private static LocalTime toLocalTime(String timeStr) {
+        try {
+            return LocalTime.parse(timeStr);
+        } catch (DateTimeParseException e) {
+            log.warn("시간 파싱 실패: {}", timeStr);
+            return null;
+        }
+    }
+}
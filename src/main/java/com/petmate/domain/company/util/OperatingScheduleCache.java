@@ -0,0 +1,45 @@
+package com.petmate.domain.company.util;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 업체별 컴파일된 영업시간 캐시
+ * - 키: 업체 ID, 버전: updatedAt (수정 시 다음 조회에서 재컴파일)
+ */
+@Component
+public class OperatingScheduleCache {
+
+    private final Map<Integer, Entry> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 업체 버전에 맞는 컴파일된 스케줄 조회 (없거나 버전이 다르면 컴파일 후 저장)
+     */
+    public OperatingSchedule get(Integer companyId, LocalDateTime updatedAt, String operatingHoursJson) {
+        if (companyId == null) {
+            return OperatingSchedule.compile(operatingHoursJson);
+        }
+
+        Entry entry = cache.get(companyId);
+        if (entry != null && Objects.equals(entry.updatedAt(), updatedAt)) {
+            return entry.schedule();
+        }
+
+        OperatingSchedule schedule = OperatingSchedule.compile(operatingHoursJson);
+        cache.put(companyId, new Entry(updatedAt, schedule));
+        return schedule;
+    }
+
+    public void evict(Integer companyId) {
+        if (companyId != null) {
+            cache.remove(companyId);
+        }
+    }
+
+    private record Entry(LocalDateTime updatedAt, OperatingSchedule schedule) {
+    }
+}
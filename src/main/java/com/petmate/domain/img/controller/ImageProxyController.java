@@ -1,98 +1,188 @@
 package com.petmate.domain.img.controller;
 
+import com.petmate.domain.img.service.LocalImageFileCache;
+import com.petmate.domain.img.service.LocalImageFileCache.LocalImageFile;
 import com.petmate.domain.img.service.ProfileImageService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.io.Resource;
-import org.springframework.http.*;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
-
-import java.io.File;
-import java.nio.file.Files;
-import java.nio.file.Path;
-
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+/**
+ * 로컬 이미지(프로필/펫) 제공
+ * - 파일 정보는 LocalImageFileCache 에서 조회 (요청마다 DB/stat/MIME 판별 없음)
+ * - ETag(strong)/Last-Modified 조건부 요청 -> 304, 단일 Range -> 206
+ * - Tomcat sendfile 지원 시 커널 복사(sendfile), 아니면 FileChannel.transferTo
+ */
 @Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/img")
 public class ImageProxyController {
 
+    // Tomcat sendfile 요청 속성 (org.apache.coyote.Constants / Globals)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(30)).cachePublic().getHeaderValue();
+
     private final ProfileImageService imageService;
+    private final LocalImageFileCache localImageFileCache;
 
     // ✅ uuid.png 등 확장자 포함 경로 허용
     @GetMapping("/{uuid:.+}")
-    public ResponseEntity<Resource> serveImage(@PathVariable String uuid) {
-        log.info("이미지 요청: uuid={}", uuid);
+    public void serveImage(@PathVariable String uuid,
+                           HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+        LocalImageFile file = localImageFileCache.get(uuid, () -> imageService.resolveRealPath(uuid));
+        if (file == null) {
+            log.debug("이미지 없음: uuid={}", uuid);
+        }
+        send(file, uuid, request, response);
+    }
 
-        String path = imageService.resolveRealPath(uuid);
-        log.info("매핑된 경로: {}", path);
+    @GetMapping("/pet/{userId}/{uuid:.+}")
+    public void servePetImage(@PathVariable Long userId,
+                              @PathVariable String uuid,
+                              HttpServletRequest request,
+                              HttpServletResponse response) throws IOException {
+        String key = "pet:" + userId + "/" + uuid;
+        LocalImageFile file = localImageFileCache.get(key, () -> imageService.resolvePetImagePath(userId, uuid)); // ✅ userId 추가
+        send(file, key, request, response);
+    }
 
-        if (path == null) {
-            log.warn("이미지 경로를 찾을 수 없음: {}", uuid);
-            return ResponseEntity.notFound().build();
+    private void send(LocalImageFile file, String cacheKey,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (file == null) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
         }
 
-        File file = new File(path);
-        log.info("파일 존재 여부: {}, 경로: {}", file.exists(), file.getAbsolutePath());
-
-        if (!file.exists()) {
-            log.warn("실제 파일이 존재하지 않음: {}", path);
-
-            // 디버깅: 디렉토리 내용 확인
-            File parentDir = file.getParentFile();
-            if (parentDir != null && parentDir.exists()) {
-                log.info("디렉토리 내용:");
-                File[] files = parentDir.listFiles();
-                if (files != null) {
-                    for (File f : files) {
-                        log.info("  - {}", f.getName());
-                    }
-                }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // ETag/Last-Modified 설정 + If-None-Match/If-Modified-Since 일치 시 304
+        if (new ServletWebRequest(request, response).checkNotModified(file.etag(), file.lastModified())) {
+            return;
+        }
+
+        long size = file.size();
+        long start = 0;
+        long end = size - 1;
+
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && size > 0 && ifRangeMatches(request, file)) {
+            long[] requested = parseRange(range, size);
+            if (requested != null && requested.length == 0) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return;
             }
+            if (requested != null) {
+                start = requested[0];
+                end = requested[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
 
-            return ResponseEntity.notFound().build();
+        long length = end - start + 1;
+        response.setContentType(file.contentType());
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod()) || length <= 0) {
+            return;
         }
 
-        Resource resource = new FileSystemResource(file);
-        MediaType contentType = MediaType.IMAGE_PNG; // 기본값
-        try {
-            String mime = Files.probeContentType(Path.of(path));
-            if (mime != null) contentType = MediaType.parseMediaType(mime);
-            log.info("MIME 타입: {}", mime);
-        } catch (Exception e) {
-            log.warn("MIME 타입 판별 실패: {}", path);
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
         }
 
-        return ResponseEntity.ok()
-                .contentType(contentType)
-                .cacheControl(CacheControl.maxAge(java.time.Duration.ofDays(30)).cachePublic())
-                .body(resource);
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(file.path(), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            localImageFileCache.evict(cacheKey);
+            response.reset();
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        try (channel) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
     }
 
-    @GetMapping("/pet/{userId}/{uuid:.+}")
-    public ResponseEntity<Resource> servePetImage(
-            @PathVariable Long userId,
-            @PathVariable String uuid) {
-
-        String path = imageService.resolvePetImagePath(userId, uuid); // ✅ userId 추가
-        if (path == null) return ResponseEntity.notFound().build();
-
-        File file = new File(path);
-        Resource resource = new FileSystemResource(file);
-
-        MediaType contentType = MediaType.IMAGE_PNG;
+    /**
+     * If-Range 가 없거나 현재 파일과 일치하면 true (불일치 시 전체 응답)
+     */
+    private static boolean ifRangeMatches(HttpServletRequest request, LocalImageFile file) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(file.etag());
+        }
         try {
-            String mime = Files.probeContentType(file.toPath());
-            if (mime != null) contentType = MediaType.parseMediaType(mime);
-        } catch (Exception ignored) {}
-
-        return ResponseEntity.ok()
-                .contentType(contentType)
-                .cacheControl(CacheControl.maxAge(java.time.Duration.ofDays(30)).cachePublic())
-                .body(resource);
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == file.lastModified() / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
     }
 
-
+    /**
+     * 단일 바이트 범위 해석 (bytes=a-b, bytes=a-, bytes=-n)
+     * @return {start, end}, 만족할 수 없으면 빈 배열, 해석 불가/다중 범위면 null (전체 응답)
+     */
+    private static long[] parseRange(String header, long size) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring(6).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) { // 마지막 n 바이트
+                long suffix = Long.parseLong(last);
+                return suffix <= 0 ? new long[0] : new long[]{Math.max(0, size - suffix), size - 1};
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+            if (start >= size) {
+                return new long[0];
+            }
+            return start > end ? null : new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
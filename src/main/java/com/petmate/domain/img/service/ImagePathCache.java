@@ -0,0 +1,58 @@
+package com.petmate.domain.img.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 이미지 조회 키 -> 실제 경로 캐시 (최대 maxEntries, LRU)
+ * - 찾은 경로는 ttl 동안, 찾지 못한 결과(null)는 negativeTtl 동안 보관
+ * - 조회 함수에서 예외가 나면 캐시하지 않음
+ */
+class ImagePathCache {
+
+    private final Map<String, Entry> entries;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+
+    ImagePathCache(int maxEntries, long ttlMillis, long negativeTtlMillis) {
+        this.ttlMillis = ttlMillis;
+        this.negativeTtlMillis = negativeTtlMillis;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @return 캐시 또는 loader 결과 경로 (없으면 null)
+     */
+    String get(String key, Supplier<String> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null && entry.expiresAt() > now) {
+            return entry.path();
+        }
+
+        String path = loader.get();
+        long expiresAt = now + (path != null ? ttlMillis : negativeTtlMillis);
+        synchronized (entries) {
+            entries.put(key, new Entry(path, expiresAt));
+        }
+        return path;
+    }
+
+    void evict(String key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    private record Entry(String path, long expiresAt) {
+    }
+}
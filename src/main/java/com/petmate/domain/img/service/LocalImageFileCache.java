@@ -0,0 +1,146 @@
+package com.petmate.domain.img.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 로컬 이미지 파일 메타데이터 캐시 (조회 키 -> 경로, MIME, 크기, 수정시각, ETag)
+ * - 요청마다 매핑 조회/파일 stat/MIME 판별을 하지 않도록 메모리에 보관 (최대 maxEntries, LRU)
+ * - 파일은 uuid 이름으로 한 번만 쓰이므로 revalidate-seconds 마다 stat 으로만 변경/삭제 확인
+ * - ETag 는 파일 내용 SHA-256 (strong, 최초 적재 시 1회 계산)
+ */
+@Slf4j
+@Component
+public class LocalImageFileCache {
+
+    private final Map<String, LocalImageFile> cache;
+    private final long revalidateMillis;
+
+    public LocalImageFileCache(@Value("${app.image.local-cache.max-entries:10000}") int maxEntries,
+                               @Value("${app.image.local-cache.revalidate-seconds:60}") long revalidateSeconds) {
+        this.revalidateMillis = revalidateSeconds * 1000L;
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalImageFile> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param pathResolver 캐시에 없을 때만 호출 (실제 경로, 없으면 null)
+     * @return 파일 정보 (매핑이 없거나 파일이 없으면 null)
+     */
+    public LocalImageFile get(String key, Supplier<String> pathResolver) {
+        long now = System.currentTimeMillis();
+        LocalImageFile cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+        }
+        if (cached != null && now - cached.verifiedAt() < revalidateMillis) {
+            return cached;
+        }
+
+        Path path;
+        if (cached != null) {
+            path = cached.path();
+        } else {
+            String realPath = pathResolver.get();
+            if (realPath == null) {
+                return null;
+            }
+            path = Paths.get(realPath);
+        }
+
+        LocalImageFile loaded = load(path, cached, now);
+        synchronized (cache) {
+            if (loaded == null) {
+                cache.remove(key);
+            } else {
+                cache.put(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public void evict(String key) {
+        synchronized (cache) {
+            cache.remove(key);
+        }
+    }
+
+    private LocalImageFile load(Path path, LocalImageFile previous, long now) {
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attrs.isRegularFile()) {
+                return null;
+            }
+            long size = attrs.size();
+            long lastModified = attrs.lastModifiedTime().toMillis();
+
+            // 변경 없음 -> 확인 시각만 갱신
+            if (previous != null && previous.size() == size && previous.lastModified() == lastModified) {
+                return previous.verified(now);
+            }
+            return new LocalImageFile(path, contentTypeOf(path), size, lastModified, etagOf(path), now);
+        } catch (NoSuchFileException e) {
+            log.debug("이미지 파일 없음: {}", path);
+            return null;
+        } catch (IOException e) {
+            log.warn("이미지 파일 정보 조회 실패: {} - {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    private static String contentTypeOf(Path path) {
+        return MediaTypeFactory.getMediaType(path.getFileName().toString())
+                .map(MediaType::toString)
+                .orElse(MediaType.IMAGE_PNG_VALUE); // 기본값
+    }
+
+    private static String etagOf(Path path) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(path)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+
+    public record LocalImageFile(Path path,
+                                 String contentType,
+                                 long size,
+                                 long lastModified,
+                                 String etag,
+                                 long verifiedAt) {
+
+        LocalImageFile verified(long now) {
+            return new LocalImageFile(path, contentType, size, lastModified, etag, now);
+        }
+    }
+}
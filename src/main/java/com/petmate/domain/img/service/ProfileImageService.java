@@ -2,24 +2,40 @@ package com.petmate.domain.img.service;
 
 import com.petmate.domain.img.entity.ProfileImageMap;
 import com.petmate.domain.img.repository.ProfileImageMapRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ProfileImageService {
 
     private final ProfileImageMapRepository repo;
+    private final LocalImageFileCache localImageFileCache;
+
+    // 아바타는 목록 행마다 요청되므로 uuid/펫 이미지 경로 매핑을 메모리에 보관 (없는 경로도 짧게 보관)
+    private final ImagePathCache profilePaths;
+    private final ImagePathCache petPaths;
+
+    public ProfileImageService(ProfileImageMapRepository repo,
+                               LocalImageFileCache localImageFileCache,
+                               @Value("${app.image.path-cache.max-entries:10000}") int maxEntries,
+                               @Value("${app.image.path-cache.ttl-seconds:600}") long ttlSeconds,
+                               @Value("${app.image.path-cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        this.repo = repo;
+        this.localImageFileCache = localImageFileCache;
+        this.profilePaths = new ImagePathCache(maxEntries, ttlSeconds * 1000L, negativeTtlSeconds * 1000L);
+        this.petPaths = new ImagePathCache(maxEntries, ttlSeconds * 1000L, negativeTtlSeconds * 1000L);
+    }
 
     /**
      * 이메일 기준으로 UUID가 있으면 재사용, 없으면 새로 생성 후 저장
@@ -42,36 +58,29 @@ public class ProfileImageService {
                             .email(email)
                             .realPath(realPath)
                             .build());
+                    evictProfileAfterCommit(uuid);
 
                     return uuid;
                 });
     }
 
     /**
-     * UUID를 받아서 실제 로컬 경로 반환
+     * UUID를 받아서 실제 로컬 경로 반환 (캐시, 매핑 없음도 짧게 캐시)
      */
     public String resolveRealPath(String uuid) {
-        log.info("UUID로 경로 조회 시작: {}", uuid);
-
-        Optional<ProfileImageMap> result = repo.findByUuid(uuid);
-
-        if (result.isPresent()) {
-            String realPath = result.get().getRealPath();
-            log.info("매핑 찾음: uuid={} -> path={}", uuid, realPath);
+        return profilePaths.get(uuid, () -> {
+            String realPath = repo.findByUuid(uuid)
+                    .map(ProfileImageMap::getRealPath)
+                    .orElse(null);
+            if (realPath == null) {
+                log.debug("UUID에 해당하는 매핑을 찾을 수 없음: {}", uuid);
+            }
             return realPath;
-        } else {
-            log.warn("UUID에 해당하는 매핑을 찾을 수 없음: {}", uuid);
-
-            // 디버깅: 전체 매핑 확인
-            long totalCount = repo.count();
-            log.info("전체 ProfileImageMap 레코드 수: {}", totalCount);
-
-            return null;
-        }
+        });
     }
 
     /**
-     * 펫 이미지 UUID → 실제 로컬 경로 매핑
+     * 펫 이미지 UUID → 실제 로컬 경로 매핑 (캐시, 파일 없음도 짧게 캐시)
      * ex) uuid=abc.png → C:/petmate/{userId}/pet/abc.png
      */
     public String resolvePetImagePath(Long userId, String uuid) {
@@ -80,17 +89,39 @@ public class ProfileImageService {
             return null;
         }
 
-        // 저장 규칙에 맞게 경로 생성
-        String baseDir = "C:/petmate/" + userId + "/pet/";
-        String realPath = baseDir + uuid;
-
-        if (Files.exists(Paths.get(realPath))) {
-            log.info("펫 이미지 경로 확인됨: {}", realPath);
-            return realPath;
-        } else {
-            log.warn("펫 이미지 없음: {}", realPath);
+        return petPaths.get(userId + "/" + uuid, () -> {
+            // 저장 규칙에 맞게 경로 생성
+            String realPath = "C:/petmate/" + userId + "/pet/" + uuid;
+            if (Files.exists(Paths.get(realPath))) {
+                return realPath;
+            }
+            log.debug("펫 이미지 없음: {}", realPath);
             return null;
+        });
+    }
+
+    /**
+     * 프로필 매핑 변경 시 캐시 무효화 (커밋 후 실행 -> 커밋 전 조회가 옛 상태를 다시 캐시하지 않도록)
+     */
+    public void evictProfileAfterCommit(String... uuids) {
+        Runnable evict = () -> {
+            for (String uuid : uuids) {
+                if (uuid != null) {
+                    profilePaths.evict(uuid);
+                    localImageFileCache.evict(uuid);
+                }
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict.run();
+            }
+        });
     }
 
     /**
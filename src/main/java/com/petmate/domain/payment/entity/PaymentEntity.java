@@ -9,7 +9,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payment")
+@Table(name = "payment", indexes = {
+        @Index(name = "idx_payment_order_id", columnList = "order_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -29,6 +31,9 @@ public class PaymentEntity {
     @Column(name = "provider_tx_id", length = 100)
     private String providerTxId;
 
+    @Column(name = "order_id", length = 100)
+    private String orderId; // 결제사 콜백 조회용 주문번호 (raw_json 의 order_id)
+
     @Column(nullable = false)
     private int amount;
 
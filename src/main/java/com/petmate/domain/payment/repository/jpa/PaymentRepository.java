@@ -3,6 +3,8 @@ package com.petmate.domain.payment.repository.jpa;
 
 import com.petmate.domain.payment.entity.PaymentEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,4 +19,14 @@ public interface PaymentRepository extends JpaRepository<PaymentEntity, Integer>
 
     List<PaymentEntity> findByStatus(String status);
 
+    Optional<PaymentEntity> findFirstByOrderIdOrderByIdAsc(String orderId);
+
+    // order_id 백필 (raw_json 의 order_id, 숫자도 문자열로 저장 / 값이 없으면 '' 로 표시해 재조회하지 않음, 1회 최대 1000건)
+    @Modifying
+    @Query(value = "UPDATE payment SET order_id = COALESCE(" +
+            "CASE WHEN JSON_TYPE(JSON_EXTRACT(raw_json, '$.order_id')) IN ('STRING', 'INTEGER', 'UNSIGNED INTEGER', 'DECIMAL', 'DOUBLE') " +
+            "THEN LEFT(JSON_UNQUOTE(JSON_EXTRACT(raw_json, '$.order_id')), 100) END, '') " +
+            "WHERE order_id IS NULL LIMIT 1000", nativeQuery = true)
+    int backfillOrderIds();
+
 }
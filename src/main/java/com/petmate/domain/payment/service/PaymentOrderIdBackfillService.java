@@ -0,0 +1,59 @@
+package com.petmate.domain.payment.service;
+
+import com.petmate.domain.payment.repository.jpa.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 기존 결제의 order_id 컬럼 백필 (raw_json 의 "order_id" 값 추출)
+ * - 기동 시 1회, order_id 가 NULL 인 결제만 DB 에서 일괄 UPDATE (1000건 단위 트랜잭션)
+ * - raw_json 에 order_id 가 없는 결제는 '' 로 채워 완료 표시 -> 재기동 시 order_id 인덱스 조회 1회로 끝남
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentOrderIdBackfillService {
+
+    private static final int BATCH_SIZE = 1000; // PaymentRepository.backfillOrderIds 의 LIMIT
+
+    private final PaymentRepository paymentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.payment.order-id-backfill.enabled:true}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int updated = backfill();
+            if (updated > 0) {
+                log.info("결제 order_id 백필 완료 - {}건", updated);
+            }
+        } catch (Exception e) {
+            log.error("결제 order_id 백필 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * @return order_id 를 채운(완료 표시 포함) 결제 수
+     */
+    public int backfill() {
+        int updated = 0;
+        while (true) {
+            Integer batchUpdated = transactionTemplate.execute(status -> paymentRepository.backfillOrderIds());
+            int count = batchUpdated != null ? batchUpdated : 0;
+            updated += count;
+            if (count < BATCH_SIZE) {
+                return updated;
+            }
+        }
+    }
+}
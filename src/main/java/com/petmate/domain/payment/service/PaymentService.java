@@ -35,17 +35,19 @@ public class PaymentService {
                 reqDto.getReservationId(), reqDto.getProvider(), reqDto.getAmount(), reqDto.getPaymentMethod());
 
             String mockTxId = generateMockTxId(reqDto.getProvider());
-            log.info("생성된 거래 ID: {}", mockTxId);
+            String orderId = "ORDER_" + System.currentTimeMillis();
+            log.info("생성된 거래 ID: {}, 주문번호: {}", mockTxId, orderId);
 
             PaymentEntity paymentEntity = PaymentEntity.builder()
                     .reservationId(reqDto.getReservationId())
                     .provider(reqDto.getProvider())
                     .providerTxId(mockTxId)
+                    .orderId(orderId)
                     .amount(reqDto.getAmount())
                     .currency(reqDto.getCurrency() != null ? reqDto.getCurrency() : "KRW")
                     .status("1")
                     .paidAt(LocalDateTime.now())
-                    .rawJson(createMockResponse(reqDto, mockTxId))
+                    .rawJson(createMockResponse(reqDto, mockTxId, orderId))
                     .build();
 
             log.info("저장할 Entity: {}", paymentEntity);
@@ -144,7 +146,7 @@ public class PaymentService {
                 String.format("%04d", (int)(Math.random() * 10000));
     }
 
-    private String createMockResponse(PaymentRequestDto request, String txId) {
+    private String createMockResponse(PaymentRequestDto request, String txId, String orderId) {
         return String.format(
                 "{\"provider_tx_id\":\"%s\",\"amount\":%d,\"currency\":\"%s\",\"status\":\"SUCCESS\"," +
                         "\"payment_method\":\"%s\",\"paid_at\":\"%s\",\"customer_name\":\"%s\"," +
@@ -156,7 +158,7 @@ public class PaymentService {
                 LocalDateTime.now(),
                 request.getCustomerName() != null ? request.getCustomerName() : "고객",
                 request.getProvider(),
-                "ORDER_" + System.currentTimeMillis()
+                orderId
         );
     }
 
@@ -172,19 +174,25 @@ public class PaymentService {
                 .orElse("알 수 없는 결제사");
     }
 
+    // order_id 로 결제 조회 (빈 값은 백필 완료 표시('')와 겹치므로 조회하지 않음)
+    private Optional<PaymentEntity> findByOrderId(String orderId) {
+        if (orderId == null || orderId.isBlank()) {
+            return Optional.empty();
+        }
+        return paymentRepository.findFirstByOrderIdOrderByIdAsc(orderId);
+    }
+
     // 다날 결제 성공 처리
     public void handlePaymentSuccess(String orderId, String transactionId, String amount) {
         try {
             log.info("=== 결제 성공 처리 시작 ===");
             log.info("orderId: {}, transactionId: {}, amount: {}", orderId, transactionId, amount);
 
-            // orderId로 결제 정보 조회 (raw_json에서 order_id로 검색)
-            List<PaymentEntity> payments = paymentRepository.findAll().stream()
-                    .filter(p -> p.getRawJson() != null && p.getRawJson().contains("\"order_id\":\"" + orderId + "\""))
-                    .toList();
+            // orderId로 결제 정보 조회 (order_id 인덱스)
+            Optional<PaymentEntity> paymentOpt = findByOrderId(orderId);
 
-            if (!payments.isEmpty()) {
-                PaymentEntity payment = payments.get(0);
+            if (paymentOpt.isPresent()) {
+                PaymentEntity payment = paymentOpt.get();
                 
                 // 결제 상태를 성공으로 업데이트
                 payment.setStatus("1"); // 성공 상태
@@ -219,13 +227,11 @@ public class PaymentService {
             log.info("=== 결제 실패 처리 시작 ===");
             log.info("orderId: {}, errorCode: {}, errorMessage: {}", orderId, errorCode, errorMessage);
 
-            // orderId로 결제 정보 조회
-            List<PaymentEntity> payments = paymentRepository.findAll().stream()
-                    .filter(p -> p.getRawJson() != null && p.getRawJson().contains("\"order_id\":\"" + orderId + "\""))
-                    .toList();
+            // orderId로 결제 정보 조회 (order_id 인덱스)
+            Optional<PaymentEntity> paymentOpt = findByOrderId(orderId);
 
-            if (!payments.isEmpty()) {
-                PaymentEntity payment = payments.get(0);
+            if (paymentOpt.isPresent()) {
+                PaymentEntity payment = paymentOpt.get();
                 
                 // 결제 상태를 실패로 업데이트
                 payment.setStatus("3"); // 실패 상태
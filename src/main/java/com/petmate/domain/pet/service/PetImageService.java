@@ -1,19 +1,31 @@
 package com.petmate.domain.pet.service;
 
+import com.petmate.common.entity.ImageEntity;
+import com.petmate.common.image.ImageVariants;
+import com.petmate.common.repository.ImageRepository;
+import com.petmate.common.service.ImageService;
+import com.petmate.common.service.ImageVariantService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
+import java.util.Map;
 import java.util.UUID;
 @Service
 @RequiredArgsConstructor
 public class PetImageService {
 
+    private static final String PET_IMAGE_TYPE = "02"; // IMAGE_TYPE: 펫프로필
+
     private final S3Client s3;
+    private final ImageVariantService imageVariantService;
+    private final ImageRepository imageRepository;
+    private final ImageService imageService;
 
     @Value("${aws.s3.bucket}")
     private String bucket;
@@ -33,6 +45,27 @@ public class PetImageService {
 
         s3.putObject(put, RequestBody.fromBytes(bytes));
 
+        // 목록 카드용 축소 변형 생성 후 IMAGE 에 기록 (/api/files/view?filePath={key}&size=128 로 조회)
+        Map<Integer, String> variants = imageVariantService
+                .createVariantsAsync(new ByteArrayResource(bytes), key)
+                .join();
+        // 이전 사진은 소프트 삭제하고, 원본/변형 S3 객체는 커밋 후 정리
+        imageService.deleteAllImagesByReference(PET_IMAGE_TYPE, String.valueOf(petId));
+        imageRepository.save(ImageEntity.builder()
+                .referenceType(PET_IMAGE_TYPE)
+                .referenceId(String.valueOf(petId))
+                .originalName(key.substring(key.lastIndexOf('/') + 1))
+                .storedName(key)
+                .filePath(key)
+                .fileSize((long) bytes.length)
+                .fileExtension(ext)
+                .mimeType(contentType != null ? contentType : "application/octet-stream")
+                .displayOrder(1)
+                .isThumbnail("Y")
+                .status("A")
+                .variantKeys(ImageVariants.toJson(variants))
+                .build());
+
         // ✅ 여기서 URL 만들지 말고 "키"만 반환
         return key;
     }
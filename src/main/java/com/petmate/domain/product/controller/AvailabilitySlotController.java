@@ -2,6 +2,7 @@ package com.petmate.domain.product.controller;
 
 import com.petmate.domain.product.dto.request.AvailabilitySlotBulkCreateRequest;
 import com.petmate.domain.product.dto.request.AvailabilitySlotCreateRequest;
+import com.petmate.domain.product.dto.response.AvailabilitySlotBulkCreateResponseDto;
 import com.petmate.domain.product.dto.response.AvailabilitySlotResponseDto;
 import com.petmate.domain.product.service.AvailabilitySlotService;
 import lombok.RequiredArgsConstructor;
@@ -39,8 +40,8 @@ public class AvailabilitySlotController {
 
     // 대량 슬롯 생성(기간별)
     @PostMapping("/bulk")
-    public ResponseEntity<List<AvailabilitySlotResponseDto>> createBulkSlots(@RequestBody AvailabilitySlotBulkCreateRequest request) {
-        List<AvailabilitySlotResponseDto> responseDto = slotService.createBulkSlots(request);
+    public ResponseEntity<AvailabilitySlotBulkCreateResponseDto> createBulkSlots(@RequestBody AvailabilitySlotBulkCreateRequest request) {
+        AvailabilitySlotBulkCreateResponseDto responseDto = slotService.createBulkSlots(request);
         return ResponseEntity.ok(responseDto);
     }
 
@@ -1,6 +1,6 @@
 package com.petmate.domain.product.controller;
 
-import com.petmate.domain.company.dto.response.CompanyResponseDto;
+import com.petmate.domain.company.repository.CompanySummary;
 import com.petmate.domain.company.service.CompanyService;
 import com.petmate.domain.product.dto.request.ProductCreateRequest;
 import com.petmate.domain.product.dto.request.ProductRequestDto;
@@ -46,7 +46,7 @@ public class ProductController {
         Integer actualUserId = Integer.parseInt(userId);
         log.info("실제 userId: {}", actualUserId);
 
-        List<CompanyResponseDto> companies = companyService.getMyCompanies(actualUserId);
+        List<CompanySummary> companies = companyService.getMyCompanySummaries(actualUserId);
 
         List<Map<String, Object>> response = companies.stream()
                 .map(company -> {
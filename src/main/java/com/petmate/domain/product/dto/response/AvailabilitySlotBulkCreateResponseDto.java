@@ -0,0 +1,21 @@
+package com.petmate.domain.product.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+public class AvailabilitySlotBulkCreateResponseDto {
+
+    private Integer companyId;
+    private Integer productId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int dayCount;      // 생성 기간 일수
+    private int slotsPerDay;   // 하루 시간대 수
+    private int createdCount;  // 생성된 슬롯 수
+    private Integer capacity;
+
+}
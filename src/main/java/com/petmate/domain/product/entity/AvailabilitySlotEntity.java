@@ -7,7 +7,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "availability_slot")
+@Table(name = "availability_slot", indexes = {
+        @Index(name = "idx_slot_product_start", columnList = "product_id, start_dt")
+})
 @Getter
 @Setter
 @NoArgsConstructor
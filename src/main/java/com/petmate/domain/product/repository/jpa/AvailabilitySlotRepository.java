@@ -8,7 +8,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface AvailabilitySlotRepository extends JpaRepository<AvailabilitySlotEntity, Integer> {
 
@@ -20,7 +22,26 @@ public interface AvailabilitySlotRepository extends JpaRepository<AvailabilitySl
                                                                @Param("date")LocalDate date);
 
     // 특정 날짜의 상품 조회
-    //List<AvailabilitySlotEntity> findByProductIdAndSlotDateOrderByStartDt(Integer productId, LocalDate slotDate);
+    List<AvailabilitySlotEntity> findByProductIdAndSlotDateOrderByStartDt(Integer productId, LocalDate slotDate);
+
+    // 특정 기간의 상품 슬롯 조회
+    List<AvailabilitySlotEntity> findByProductIdAndSlotDateBetweenOrderBySlotDateAscStartDt(
+            Integer productId, LocalDate startDate, LocalDate endDate);
+
+    // 상품의 특정 시작시간 슬롯 조회
+    Optional<AvailabilitySlotEntity> findFirstByProductIdAndStartDt(Integer productId, LocalDateTime startDt);
+
+    // 좌석 선점: 남은 자리가 있을 때만 booked 증가 (단일 조건부 UPDATE, 반환값 1 = 성공)
+    @Modifying
+    @Query("UPDATE AvailabilitySlotEntity s SET s.booked = s.booked + 1 " +
+            "WHERE s.id = :slotId AND s.booked < s.capacity")
+    int claimSeat(@Param("slotId") Integer slotId);
+
+    // 좌석 반환: 예약 취소/거절 시 booked 감소
+    @Modifying
+    @Query("UPDATE AvailabilitySlotEntity s SET s.booked = s.booked - 1 " +
+            "WHERE s.id = :slotId AND s.booked > 0")
+    int releaseSeat(@Param("slotId") Integer slotId);
 
     // 업체 모든 상품 조회
     List<AvailabilitySlotEntity> findByCompanyIdOrderBySlotDateAscStartDt(Integer companyId);
@@ -0,0 +1,15 @@
+package com.petmate.domain.product.repository.mybatis;
+
+import com.petmate.domain.product.entity.AvailabilitySlotEntity;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface AvailabilitySlotMapper {
+
+    // 슬롯 다건 등록 (multi-row INSERT 한 번으로 처리)
+    int insertSlots(@Param("slots") List<AvailabilitySlotEntity> slots);
+
+}
@@ -2,19 +2,23 @@ package com.petmate.domain.product.service;
 
 import com.petmate.domain.product.dto.request.AvailabilitySlotBulkCreateRequest;
 import com.petmate.domain.product.dto.request.AvailabilitySlotCreateRequest;
+import com.petmate.domain.product.dto.response.AvailabilitySlotBulkCreateResponseDto;
 import com.petmate.domain.product.dto.response.AvailabilitySlotResponseDto;
 import com.petmate.domain.product.entity.AvailabilitySlotEntity;
 import com.petmate.domain.product.repository.jpa.AvailabilitySlotRepository;
+import com.petmate.domain.product.repository.mybatis.AvailabilitySlotMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,7 +26,11 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class AvailabilitySlotService {
 
+    private static final int BULK_INSERT_CHUNK_SIZE = 500;
+    private static final int MAX_BULK_DAYS = 366;
+
     private final AvailabilitySlotRepository slotRepository;
+    private final AvailabilitySlotMapper slotMapper;
 
     // 예약 가능 조회
     public List<AvailabilitySlotResponseDto> getAvailableSlots(Integer productId, LocalDate date) {
@@ -38,6 +46,7 @@ public class AvailabilitySlotService {
         AvailabilitySlotEntity slotEntity = AvailabilitySlotEntity.builder()
                 .companyId(request.getCompanyId())
                 .productId(request.getProductId())
+                .slotDate(request.getSlotDate())
                 .startDt(LocalDateTime.of(request.getSlotDate(), request.getStartTime()))
                 .endDt(LocalDateTime.of(request.getSlotDate(), request.getEndTime()))
                 .capacity(request.getCapacity())
@@ -48,15 +57,28 @@ public class AvailabilitySlotService {
         return AvailabilitySlotResponseDto.from(savedSlot);
     }
 
-    // 대량 슬롯 생성(30분 단위 자동 생성)
+    // 대량 슬롯 생성(기간 x 시간대, 청크 단위 multi-row INSERT)
     @Transactional
-    public List<AvailabilitySlotResponseDto> createBulkSlots(AvailabilitySlotBulkCreateRequest request) {
-        List<AvailabilitySlotEntity> slotToCreate = new ArrayList<>();
+    public AvailabilitySlotBulkCreateResponseDto createBulkSlots(AvailabilitySlotBulkCreateRequest request) {
+        List<AvailabilitySlotBulkCreateRequest.TimeSlot> timeSlots = request.getTimeSlots();
+        if (timeSlots == null || timeSlots.isEmpty()) {
+            throw new IllegalArgumentException("생성할 시간대가 없습니다.");
+        }
+        if (request.getEndDate().isBefore(request.getStartDate())) {
+            throw new IllegalArgumentException("종료일은 시작일 이후여야 합니다.");
+        }
+        long dayCount = ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) + 1;
+        if (dayCount > MAX_BULK_DAYS) {
+            throw new IllegalArgumentException("슬롯은 한 번에 최대 " + MAX_BULK_DAYS + "일까지 생성할 수 있습니다.");
+        }
+
+        List<AvailabilitySlotEntity> chunk = new ArrayList<>(BULK_INSERT_CHUNK_SIZE);
+        int created = 0;
 
         LocalDate currentDate = request.getStartDate();
         while (!currentDate.isAfter(request.getEndDate())) {
-            for (AvailabilitySlotBulkCreateRequest.TimeSlot timeSlot : request.getTimeSlots()) {
-                AvailabilitySlotEntity slot = AvailabilitySlotEntity.builder()
+            for (AvailabilitySlotBulkCreateRequest.TimeSlot timeSlot : timeSlots) {
+                chunk.add(AvailabilitySlotEntity.builder()
                         .companyId(request.getCompanyId())
                         .productId(request.getProductId())
                         .slotDate(currentDate)
@@ -64,16 +86,63 @@ public class AvailabilitySlotService {
                         .endDt(LocalDateTime.of(currentDate, timeSlot.getEndTime()))
                         .capacity(request.getCapacity())
                         .booked(0)
-                        .build();
+                        .build());
 
-                slotToCreate.add(slot);
+                if (chunk.size() == BULK_INSERT_CHUNK_SIZE) {
+                    created += slotMapper.insertSlots(chunk);
+                    chunk.clear();
+                }
             }
             currentDate = currentDate.plusDays(1);
         }
-        List<AvailabilitySlotEntity> savedSlots = slotRepository.saveAll(slotToCreate);
-        return savedSlots.stream()
-                .map(AvailabilitySlotResponseDto::from)
-                .collect(Collectors.toList());
+        if (!chunk.isEmpty()) {
+            created += slotMapper.insertSlots(chunk);
+        }
+
+        return AvailabilitySlotBulkCreateResponseDto.builder()
+                .companyId(request.getCompanyId())
+                .productId(request.getProductId())
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .dayCount((int) dayCount)
+                .slotsPerDay(timeSlots.size())
+                .createdCount(created)
+                .capacity(request.getCapacity())
+                .build();
+    }
+
+    // 상품의 특정 날짜 슬롯 조회
+    public List<AvailabilitySlotEntity> getSlotsForDate(Integer productId, LocalDate date) {
+        return slotRepository.findByProductIdAndSlotDateOrderByStartDt(productId, date);
+    }
+
+    // 상품의 특정 기간 슬롯 조회 (날짜별 그룹)
+    public Map<LocalDate, List<AvailabilitySlotEntity>> getSlotsForRange(Integer productId, LocalDate startDate, LocalDate endDate) {
+        return slotRepository.findByProductIdAndSlotDateBetweenOrderBySlotDateAscStartDt(productId, startDate, endDate)
+                .stream()
+                .collect(Collectors.groupingBy(AvailabilitySlotEntity::getSlotDate));
+    }
+
+    // 상품의 특정 시작시간 슬롯 조회
+    public Optional<AvailabilitySlotEntity> findSlot(Integer productId, LocalDateTime startDt) {
+        return slotRepository.findFirstByProductIdAndStartDt(productId, startDt);
+    }
+
+    /**
+     * 좌석 1개 선점
+     * - 조건부 UPDATE 한 번으로 처리 (조회 후 수정 X) -> 동시 요청에도 capacity 초과 불가
+     * - 행 잠금은 호출한 트랜잭션이 끝날 때까지 유지되므로 트랜잭션의 마지막 쓰기로 호출할 것
+     * @return 선점 성공 여부 (자리 없음 / 슬롯 없음이면 false)
+     */
+    @Transactional
+    public boolean claimSeat(Integer slotId) {
+        return slotRepository.claimSeat(slotId) == 1;
+    }
+
+    // 좌석 1개 반환
+    @Transactional
+    public boolean releaseSeat(Integer slotId) {
+        return slotRepository.releaseSeat(slotId) == 1;
     }
 
     // 업체 슬롯 조회
@@ -1,6 +1,5 @@
 package com.petmate.domain.product.service;
 
-import com.petmate.domain.company.dto.response.CompanyResponseDto;
 import com.petmate.domain.company.service.CompanyService;
 import com.petmate.domain.product.dto.request.ProductCreateRequest;
 import com.petmate.domain.product.dto.request.ProductSearchRequest;
@@ -45,14 +44,8 @@ public class ProductService {
             Integer actualUserId = Integer.parseInt(userId);
             log.info("실제 userId: {}", actualUserId);
 
-            // 사용자가 등록한 업체 ID 목록 조회
-            List<CompanyResponseDto> myCompanies = companyService.getMyCompanies(actualUserId);
-            log.info("조회된 업체 수: {}", myCompanies.size());
-
-            // CompanyResponseDto -> ID 가져오기
-            List<Integer> myCompanyIds = myCompanies.stream()
-                    .map(CompanyResponseDto::getId)
-                    .toList();
+            // 사용자가 등록한 업체 ID 목록 조회 (ID만 조회)
+            List<Integer> myCompanyIds = companyService.getMyCompanyIds(actualUserId);
             log.info("업체 ID 목록: {}", myCompanyIds);
 
             // 해당 업체 상품 조회
@@ -2,6 +2,7 @@ package com.petmate.domain.user.service;
 
 import com.petmate.domain.img.entity.ProfileImageMap;
 import com.petmate.domain.img.repository.ProfileImageMapRepository;
+import com.petmate.domain.img.service.ProfileImageService;
 import com.petmate.domain.user.entity.PetmateCertEntity;
 import com.petmate.domain.user.entity.UserEntity;
 import com.petmate.domain.user.repository.jpa.PetmateCertRepository;
@@ -33,6 +34,7 @@ public class UserFileService {
 
     private final PetmateCertRepository certRepository;
     private final ProfileImageMapRepository imageMapRepo;
+    private final ProfileImageService profileImageService;
 
     @Transactional
     public String storeProfile(UserEntity user, MultipartFile file) {
@@ -206,6 +208,9 @@ public class UserFileService {
                     .build());
         }
 
+        // 이전/새 UUID 경로 캐시 무효화 (커밋 후)
+        profileImageService.evictProfileAfterCommit(existingMap != null ? existingMap.getUuid() : null, uuid);
+
         log.info("ImageMap 처리 완료: email={}, UUID={}, path={}", email, uuid, realPath);
     }
 
@@ -2,6 +2,10 @@ package com.petmate.security;
 
 import com.petmate.security.jwt.JwtClaimAccessor;
 import com.petmate.security.jwt.JwtUtil;
+import com.petmate.security.jwt.VerifiedTokenCache;
+import com.petmate.security.jwt.VerifiedTokenCache.VerifiedToken;
+import com.petmate.security.trace.AuthDecision;
+import com.petmate.security.trace.AuthTraceRecorder;
 import com.petmate.domain.auth.service.SessionManagementService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -22,7 +26,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 @Slf4j
@@ -32,140 +36,127 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final SessionManagementService sessionManagementService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AuthTraceRecorder authTraceRecorder;
 
-    private boolean isPublicPath(String uri) {
-        return uri.equals("/auth/signin")
-                || uri.equals("/auth/signup")
-                || uri.equals("/auth/refresh")
-                || uri.equals("/auth/signout")
-                || uri.startsWith("/oauth2/")
-                || uri.startsWith("/login/")
-                || uri.startsWith("/files/")
-                || uri.startsWith("/static/")
-                || uri.startsWith("/img/")
-                || uri.equals("/favicon.ico")
-                || uri.equals("/error")
-                // 타임슬롯 API 허용
-                || uri.matches("/api/products/\\d+/available-slots")
-                || uri.matches("/api/products/\\d+/refresh-slots")
-                // 결제 API 허용
-                || uri.startsWith("/api/payment/")
-                // 예약 생성 API 허용
-                || uri.equals("/api/booking");
-                // 상품 API 허용 (상품 등록/수정)
-//                || uri.startsWith("/api/products")
-//                // 서비스 카테고리 API 허용
-//                || uri.startsWith("/api/service-categories");
-    }
+    // JWT 처리 없이 통과시키는 공개 경로 (SecurityConfig permitAll 과 같은 PublicPaths 에서 생성)
+    private static final PublicPathMatcher PUBLIC_PATHS = PublicPathMatcher.forJwtBypass(PublicPaths.RULES);
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain chain) throws ServletException, IOException {
 
+        final long startNanos = System.nanoTime();
         final String uri = request.getRequestURI();
         final String method = request.getMethod();
 
+        AuthResult result = authenticate(request, method, uri);
+        VerifiedToken verified = result.token();
+        authTraceRecorder.record(method, uri, result.decision(),
+                verified != null ? verified.type() : null,
+                verified != null ? verified.role() : null,
+                startNanos);
+
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * 토큰 검증 및 SecurityContext 설정 (결과만 반환, 체인 진행은 호출측에서)
+     */
+    private AuthResult authenticate(HttpServletRequest request, String method, String uri) {
         if (HttpMethod.OPTIONS.matches(method)) {
-            System.out.println("[JWT-DBG] OPTIONS " + uri + " -> pass");
-            chain.doFilter(request, response);
-            return;
+            return AuthResult.OPTIONS_PASS;
         }
-
-        log.info("[JWT-DBG]L uri=" + uri);
-        System.out.println("[JWT-DBG]P uri=" + uri);
-        if (isPublicPath(uri)) {
-            System.out.println("[JWT-DBG] public path " + uri + " -> pass");
-            chain.doFilter(request, response);
-            return;
+        if (PUBLIC_PATHS.matches(method, uri)) {
+            return AuthResult.PUBLIC_PASS;
         }
 
         final String authHeader = request.getHeader("Authorization");
-        System.out.println("[JWT-DBG] " + method + " " + uri + " Authorization=" + authHeader);
-
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            System.out.println("[JWT-DBG] no Bearer header -> pass");
-            chain.doFilter(request, response);
-            return;
+            return AuthResult.NO_TOKEN;
         }
-
         final String token = authHeader.substring(7);
-        System.out.println("[JWT-DBG] token(first20)=" + token.substring(0, Math.min(20, token.length())) + "...");
 
         try {
-            try {
-                if (jwtUtil.isExpired(token)) {
-                    System.out.println("[JWT-DBG] expired token -> pass");
-                    chain.doFilter(request, response);
-                    return;
-                }
-            } catch (ExpiredJwtException ex) {
-                System.out.println("[JWT-DBG] expired (parser) -> pass");
-                chain.doFilter(request, response);
-                return;
-            }
-
             if (SecurityContextHolder.getContext().getAuthentication() != null) {
-                System.out.println("[JWT-DBG] already authenticated -> pass");
-                chain.doFilter(request, response);
-                return;
+                return AuthResult.ALREADY_AUTHENTICATED;
             }
 
-            Claims claims = jwtUtil.parse(token);
-            System.out.println("[JWT-DBG] claims=" + claims);
-
-            String type = JwtClaimAccessor.type(claims);
-            System.out.println("[JWT-DBG] token type=" + type);
-            if (!"access".equals(type)) {
-                System.out.println("[JWT-DBG] non-access token -> pass");
-                chain.doFilter(request, response);
-                return;
+            // 검증 캐시 조회 (없으면 1회 파싱/서명 검증 후 저장, 만료 토큰은 ExpiredJwtException)
+            VerifiedToken verified = verifiedTokenCache.get(token);
+            if (verified == null) {
+                try {
+                    verified = verify(token);
+                } catch (ExpiredJwtException ex) {
+                    return AuthResult.EXPIRED;
+                }
+                verifiedTokenCache.put(token, verified);
             }
 
-            String email = JwtClaimAccessor.email(claims);
-            String subject = claims.getSubject(); // 보통 userId
-            
-            String principalValue = claims.getSubject();
-            // if (principalValue == null || principalValue.isBlank()) {
-            //     principalValue = (email != null && !email.isBlank()) ? email : null;
-            // }
-
-            String roleCode = JwtClaimAccessor.role(claims);
-            System.out.println("[JWT-DBG] principal=" + principalValue + " role=" + roleCode);
-
-            List<GrantedAuthority> authorities = new ArrayList<>();
-            switch (roleCode) {
-                case "2" -> authorities.add(new SimpleGrantedAuthority("ROLE_PETOWNER"));
-                case "3" -> authorities.add(new SimpleGrantedAuthority("ROLE_PETMATE"));
-                case "4" -> {
-                    authorities.add(new SimpleGrantedAuthority("ROLE_PETOWNER"));
-                    authorities.add(new SimpleGrantedAuthority("ROLE_PETMATE"));
-                }
-                case "9" -> authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
-                default -> authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
+            if (verified.isExpired(System.currentTimeMillis())) {
+                return new AuthResult(AuthDecision.EXPIRED, verified);
+            }
+            if (!verified.isAccessToken()) {
+                return new AuthResult(AuthDecision.NON_ACCESS, verified);
             }
 
+            String subject = verified.subject(); // 보통 userId
             UsernamePasswordAuthenticationToken auth =
-                    new UsernamePasswordAuthenticationToken(principalValue, null, authorities);
+                    new UsernamePasswordAuthenticationToken(subject, null, verified.authorities());
             auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(auth);
-            System.out.println("[JWT-DBG] authenticated principal set");
 
             // 세션 활성화는 subject(userId)로
             try {
-                Long userId = Long.parseLong(subject);
-                sessionManagementService.updateSessionActivityByUserId(userId);
-                System.out.println("[JWT-DBG] session activity updated for userId: " + userId);
+                sessionManagementService.updateSessionActivityByUserId(Long.parseLong(subject));
             } catch (Exception ex) {
-                System.out.println("[JWT-DBG] session activity update failed: " + ex.getMessage());
+                log.debug("session activity update failed: {}", ex.getMessage());
             }
+            return new AuthResult(AuthDecision.AUTHENTICATED, verified);
 
         } catch (JwtException ex) {
-            System.out.println("[JWT-DBG] invalid token ex=" + ex.getClass().getSimpleName());
+            return AuthResult.INVALID;
         } catch (Exception ex) {
-            System.out.println("[JWT-DBG] token handling error=" + ex.getMessage());
+            log.warn("token handling error: {}", ex.getMessage());
+            return AuthResult.ERROR;
         }
+    }
 
-        chain.doFilter(request, response);
+    /**
+     * 토큰 1회 파싱/서명 검증 후 캐시용 결과 생성
+     */
+    private VerifiedToken verify(String token) {
+        Claims claims = jwtUtil.parse(token);
+        String role = JwtClaimAccessor.role(claims);
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(
+                claims.getSubject(),
+                JwtClaimAccessor.type(claims),
+                role,
+                authoritiesOf(role),
+                expiration != null ? expiration.getTime() : 0L);
+    }
+
+    private static List<GrantedAuthority> authoritiesOf(String roleCode) {
+        return switch (roleCode) {
+            case "2" -> List.of(new SimpleGrantedAuthority("ROLE_PETOWNER"));
+            case "3" -> List.of(new SimpleGrantedAuthority("ROLE_PETMATE"));
+            case "4" -> List.of(
+                    new SimpleGrantedAuthority("ROLE_PETOWNER"),
+                    new SimpleGrantedAuthority("ROLE_PETMATE"));
+            case "9" -> List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+            default -> List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        };
+    }
+
+    private record AuthResult(AuthDecision decision, VerifiedToken token) {
+        static final AuthResult OPTIONS_PASS = new AuthResult(AuthDecision.OPTIONS_PASS, null);
+        static final AuthResult PUBLIC_PASS = new AuthResult(AuthDecision.PUBLIC_PASS, null);
+        static final AuthResult NO_TOKEN = new AuthResult(AuthDecision.NO_TOKEN, null);
+        static final AuthResult ALREADY_AUTHENTICATED = new AuthResult(AuthDecision.ALREADY_AUTHENTICATED, null);
+        static final AuthResult EXPIRED = new AuthResult(AuthDecision.EXPIRED, null);
+        static final AuthResult INVALID = new AuthResult(AuthDecision.INVALID, null);
+        static final AuthResult ERROR = new AuthResult(AuthDecision.ERROR, null);
     }
 }
@@ -0,0 +1,134 @@
+package com.petmate.security;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 공개 경로 매처 (시작 시 1회 구성되는 경로 구간 트라이)
+ * - 조회 시 substring/정규식/객체 생성 없이 regionMatches 로만 비교
+ * - 구간 패턴: 리터럴, "*" (한 구간), "**" (0개 이상 구간)
+ * - 메서드는 비트마스크로 구분
+ */
+public final class PublicPathMatcher {
+
+    private static final int OTHER_METHOD = 1 << 8;
+    private static final int ALL_METHODS = (1 << 9) - 1;
+
+    private final Node root = new Node();
+
+    private PublicPathMatcher() {}
+
+    /**
+     * JWT 필터 우회 대상(skipJwt) 규칙만으로 매처 생성
+     */
+    public static PublicPathMatcher forJwtBypass(List<PublicPaths.Rule> rules) {
+        PublicPathMatcher matcher = new PublicPathMatcher();
+        for (PublicPaths.Rule rule : rules) {
+            if (rule.skipJwt()) {
+                matcher.add(rule);
+            }
+        }
+        return matcher;
+    }
+
+    public boolean matches(String method, String uri) {
+        if (uri == null || (!uri.isEmpty() && uri.charAt(0) != '/')) {
+            return false;
+        }
+        return match(root, uri, 0, methodBit(method));
+    }
+
+    private void add(PublicPaths.Rule rule) {
+        int mask = rule.method() == null ? ALL_METHODS : methodBit(rule.method().name());
+        String[] segments = rule.pattern().substring(1).split("/", -1);
+
+        Node node = root;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if ("**".equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' 는 패턴 마지막에만 사용할 수 있습니다: " + rule.pattern());
+                }
+                node.subtreeMethods |= mask;
+                return;
+            }
+            node = "*".equals(segment) ? node.wildcardChild() : node.literalChild(segment);
+        }
+        node.exactMethods |= mask;
+    }
+
+    /**
+     * @param start 다음 구간 앞의 '/' 위치 (경로를 모두 소비했으면 uri.length())
+     */
+    private static boolean match(Node node, String uri, int start, int methodBit) {
+        if ((node.subtreeMethods & methodBit) != 0) {
+            return true;
+        }
+        if (start >= uri.length()) {
+            return (node.exactMethods & methodBit) != 0;
+        }
+
+        int segStart = start + 1;
+        int segEnd = uri.indexOf('/', segStart);
+        if (segEnd < 0) {
+            segEnd = uri.length();
+        }
+        int length = segEnd - segStart;
+
+        for (int i = 0; i < node.literals.length; i++) {
+            String literal = node.literals[i];
+            if (literal.length() == length
+                    && uri.regionMatches(segStart, literal, 0, length)
+                    && match(node.literalChildren[i], uri, segEnd, methodBit)) {
+                return true;
+            }
+        }
+        return node.wildcard != null && length > 0 && match(node.wildcard, uri, segEnd, methodBit);
+    }
+
+    private static int methodBit(String method) {
+        if (method == null) {
+            return 0;
+        }
+        return switch (method) {
+            case "GET" -> 1;
+            case "HEAD" -> 1 << 1;
+            case "POST" -> 1 << 2;
+            case "PUT" -> 1 << 3;
+            case "PATCH" -> 1 << 4;
+            case "DELETE" -> 1 << 5;
+            case "OPTIONS" -> 1 << 6;
+            case "TRACE" -> 1 << 7;
+            default -> OTHER_METHOD;
+        };
+    }
+
+    private static final class Node {
+        private String[] literals = new String[0];
+        private Node[] literalChildren = new Node[0];
+        private Node wildcard;
+        private int exactMethods;   // 이 구간에서 끝나는 패턴의 메서드
+        private int subtreeMethods; // "**" 패턴의 메서드 (이 구간 및 하위 전체)
+
+        Node literalChild(String segment) {
+            for (int i = 0; i < literals.length; i++) {
+                if (literals[i].equals(segment)) {
+                    return literalChildren[i];
+                }
+            }
+            Node child = new Node();
+            literals = Arrays.copyOf(literals, literals.length + 1);
+            literalChildren = Arrays.copyOf(literalChildren, literalChildren.length + 1);
+            literals[literals.length - 1] = segment;
+            literalChildren[literalChildren.length - 1] = child;
+            return child;
+        }
+
+        Node wildcardChild() {
+            if (wildcard == null) {
+                wildcard = new Node();
+            }
+            return wildcard;
+        }
+    }
+}
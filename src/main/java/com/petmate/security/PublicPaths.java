@@ -0,0 +1,79 @@
+package com.petmate.security;
+
+import org.springframework.http.HttpMethod;
+
+import java.util.List;
+
+/**
+ * 공개(permitAll) 경로 단일 정의
+ * - SecurityConfig 의 permitAll 규칙과 JwtAuthenticationFilter 의 우회 경로를 모두 여기서 생성 (둘이 어긋나지 않도록)
+ * - 패턴: "*" = 한 구간, "**" = 0개 이상 구간 (마지막에만 사용)
+ * - skipJwt: true 면 JWT 필터가 토큰 처리 없이 통과, false 면 permitAll 이지만 토큰이 있으면 인증 정보 설정
+ */
+public final class PublicPaths {
+
+    private PublicPaths() {}
+
+    /**
+     * @param method null 이면 모든 메서드
+     */
+    public record Rule(HttpMethod method, String pattern, boolean skipJwt) {
+    }
+
+    public static final List<Rule> RULES = List.of(
+            // Static (이미지 포함)
+            skip(null, "/img/**"),
+            skip(HttpMethod.GET, "/files/**"),
+            skip(HttpMethod.GET, "/static/**"),
+            skip(HttpMethod.GET, "/favicon.ico"),
+            skip(HttpMethod.GET, "/error"),
+
+            // Auth endpoints
+            skip(null, "/auth/signin"),
+            skip(null, "/auth/signup"),
+            skip(null, "/auth/refresh"),
+            skip(null, "/auth/signout"),
+
+            // OAuth2 로그인 흐름
+            skip(null, "/oauth2/**"),
+            skip(null, "/login/**"),
+
+            // Restore
+            permit(HttpMethod.POST, "/user/restore"),
+
+            // Public API
+            permit(HttpMethod.GET, "/pet/breeds"),
+            permit(HttpMethod.GET, "/pet/breeds/**"),
+            permit(HttpMethod.GET, "/api/company/nearby"),
+            permit(HttpMethod.GET, "/api/company/*/service-types"),
+            permit(HttpMethod.GET, "/api/company/public/*"),
+            permit(HttpMethod.GET, "/api/companies"),
+            permit(HttpMethod.GET, "/api/products/companies"),
+            permit(HttpMethod.GET, "/api/service-categories"),
+            permit(HttpMethod.GET, "/api/review-keywords/**"),
+            permit(HttpMethod.GET, "/api/files/view"),
+            permit(HttpMethod.GET, "/api/reviews/company/**"),
+
+            // Products time-slots
+            skip(HttpMethod.GET, "/api/products/*/available-slots"),
+            skip(HttpMethod.GET, "/api/products/*/available-slots/range"),
+            skip(HttpMethod.POST, "/api/products/*/refresh-slots"),
+
+            // Payment
+            skip(HttpMethod.POST, "/api/payment/**"),
+            skip(HttpMethod.GET, "/api/payment/**"),
+            skip(null, "/api/payment/danal/**"),
+            permit(HttpMethod.DELETE, "/api/booking/payment-failed/*"),
+
+            // Booking (temporary fix)
+            skip(HttpMethod.POST, "/api/booking")
+    );
+
+    private static Rule skip(HttpMethod method, String pattern) {
+        return new Rule(method, pattern, true);
+    }
+
+    private static Rule permit(HttpMethod method, String pattern) {
+        return new Rule(method, pattern, false);
+    }
+}
@@ -1,6 +1,7 @@
 package com.petmate.security.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -21,6 +22,7 @@ public class JwtUtil {
     private final String issuer;
 
     private SecretKey key;
+    private JwtParser parser; // 불변/스레드 안전, init 시 1회 생성
 
     public JwtUtil(
             @Value("${jwt.secret}") String secret,
@@ -36,6 +38,7 @@ public class JwtUtil {
     @PostConstruct
     void init() {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
     }
 
     /** 범용 발급 */
@@ -53,8 +56,7 @@ public class JwtUtil {
 
     /** 파싱/검증 */
     public Claims parse(String token) {
-        return Jwts.parser().verifyWith(key).build()
-                .parseSignedClaims(token).getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public boolean validate(String token) {
@@ -0,0 +1,112 @@
+package com.petmate.security.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증 완료된 JWT 캐시
+ * - 키: 토큰 SHA-256 digest (원문 토큰은 보관하지 않음)
+ * - 값: 서명 검증/디코딩 결과 (principal, type, role, 권한, 만료시각)
+ * - 토큰 만료 시각까지만 유효, 최대 개수 초과 시 만료 항목부터 정리
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final Map<String, VerifiedToken> cache = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    public VerifiedTokenCache(@Value("${jwt.verified-cache-size:10000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 캐시된 검증 결과 조회 (없거나 만료되었으면 null)
+     */
+    public VerifiedToken get(String token) {
+        String key = digest(token);
+        VerifiedToken verified = cache.get(key);
+        if (verified == null) {
+            return null;
+        }
+        if (verified.isExpired(System.currentTimeMillis())) {
+            cache.remove(key, verified);
+            return null;
+        }
+        return verified;
+    }
+
+    public void put(String token, VerifiedToken verified) {
+        if (verified.isExpired(System.currentTimeMillis())) {
+            return;
+        }
+        if (cache.size() >= maxEntries) {
+            evict();
+        }
+        cache.put(digest(token), verified);
+    }
+
+    public void invalidate(String token) {
+        cache.remove(digest(token));
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * 만료 항목 제거 후에도 가득 차 있으면 임의 항목을 제거해 10% 여유 확보
+     */
+    private void evict() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(verified -> verified.isExpired(now));
+
+        int target = maxEntries - Math.max(1, maxEntries / 10);
+        Iterator<String> it = cache.keySet().iterator();
+        while (cache.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static String digest(String token) {
+        MessageDigest md = SHA256.get();
+        md.reset();
+        return HexFormat.of().formatHex(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 검증된 토큰 정보
+     */
+    public record VerifiedToken(String subject,
+                                String type,
+                                String role,
+                                List<GrantedAuthority> authorities,
+                                long expiresAtMillis) {
+
+        public boolean isAccessToken() {
+            return "access".equals(type);
+        }
+
+        public boolean isExpired(long nowMillis) {
+            return expiresAtMillis <= nowMillis;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.petmate.security.trace;
+
+/**
+ * JwtAuthenticationFilter 처리 결과
+ */
+public enum AuthDecision {
+    OPTIONS_PASS,          // Preflight
+    PUBLIC_PASS,           // 공개 경로
+    NO_TOKEN,              // Bearer 헤더 없음
+    ALREADY_AUTHENTICATED, // 이미 인증 정보 존재
+    EXPIRED,               // 만료 토큰
+    NON_ACCESS,            // access 토큰 아님
+    AUTHENTICATED,         // 인증 성공
+    INVALID,               // 서명/형식 오류
+    ERROR                  // 기타 처리 오류
+}
@@ -0,0 +1,14 @@
+package com.petmate.security.trace;
+
+/**
+ * 요청 단위 인증 추적 기록
+ */
+public record AuthTrace(long sequence,
+                        long timestampMillis,
+                        String method,
+                        String uri,
+                        AuthDecision decision,
+                        String tokenType,
+                        String role,
+                        long latencyMicros) {
+}
@@ -0,0 +1,48 @@
+package com.petmate.security.trace;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 인증 추적 런타임 제어 (/actuator/authtrace)
+ * - GET: 현재 설정, 결정별 카운트, 최근 기록
+ * - POST {"enabled": true, "sampleRate": 0.1}: 활성화/샘플링 비율 변경
+ */
+@Component
+@Endpoint(id = "authtrace")
+@RequiredArgsConstructor
+public class AuthTraceEndpoint {
+
+    private static final int RECENT_LIMIT = 50;
+
+    private final AuthTraceRecorder authTraceRecorder;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", authTraceRecorder.isEnabled());
+        result.put("sampleRate", authTraceRecorder.getSampleRate());
+        result.put("dropped", authTraceRecorder.getDropped());
+        result.put("decisions", authTraceRecorder.decisionCounts());
+        result.put("recent", authTraceRecorder.recent(RECENT_LIMIT));
+        return result;
+    }
+
+    @WriteOperation
+    public Map<String, Object> configure(@Nullable Boolean enabled, @Nullable Double sampleRate) {
+        if (enabled != null) {
+            authTraceRecorder.setEnabled(enabled);
+        }
+        if (sampleRate != null) {
+            authTraceRecorder.setSampleRate(sampleRate);
+        }
+        return status();
+    }
+}
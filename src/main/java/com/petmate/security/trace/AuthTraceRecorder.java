@@ -0,0 +1,165 @@
+package com.petmate.security.trace;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인증 필터 추적기
+ * - 요청 스레드: 결정별 카운터 증가 + (활성화/샘플링 시) 링 버퍼에 기록만 수행, 콘솔 I/O 없음
+ * - 링 버퍼는 고정 크기로 오래된 기록부터 덮어씀
+ * - 로그 출력은 스케줄러 스레드에서 비동기로 처리
+ * - 카운터는 Micrometer 메트릭(auth.filter.decisions, auth.filter.latency)으로 노출
+ */
+@Slf4j
+@Component
+public class AuthTraceRecorder {
+
+    private final Map<AuthDecision, LongAdder> decisionCounts = new EnumMap<>(AuthDecision.class);
+    private final LongAdder latencyMicrosTotal = new LongAdder();
+
+    private final AtomicReferenceArray<AuthTrace> ring;
+    private final int mask;
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private long drainedUpTo; // 스케줄러 스레드 전용
+
+    private volatile boolean enabled;
+    private volatile double sampleRate;
+
+    public AuthTraceRecorder(MeterRegistry meterRegistry,
+                             @Value("${app.auth-trace.enabled:false}") boolean enabled,
+                             @Value("${app.auth-trace.sample-rate:1.0}") double sampleRate,
+                             @Value("${app.auth-trace.buffer-size:1024}") int bufferSize) {
+        int capacity = 1 << (32 - Integer.numberOfLeadingZeros(Math.max(16, bufferSize) - 1)); // 2의 거듭제곱으로 올림
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.enabled = enabled;
+        this.sampleRate = clamp(sampleRate);
+
+        for (AuthDecision decision : AuthDecision.values()) {
+            LongAdder counter = new LongAdder();
+            decisionCounts.put(decision, counter);
+            FunctionCounter.builder("auth.filter.decisions", counter, LongAdder::sum)
+                    .description("JWT 인증 필터 처리 결과별 요청 수")
+                    .tag("decision", decision.name())
+                    .register(meterRegistry);
+        }
+        FunctionCounter.builder("auth.filter.latency", latencyMicrosTotal, LongAdder::sum)
+                .description("JWT 인증 필터 처리 시간 합계")
+                .baseUnit("microseconds")
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.trace.dropped", dropped, LongAdder::sum)
+                .description("로그 출력 전에 덮어쓰여진 추적 기록 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 처리 결과 기록 (요청 스레드에서 호출)
+     */
+    public void record(String method, String uri, AuthDecision decision,
+                       String tokenType, String role, long startNanos) {
+        long latencyMicros = (System.nanoTime() - startNanos) / 1_000;
+        decisionCounts.get(decision).increment();
+        latencyMicrosTotal.add(latencyMicros);
+
+        if (!enabled) {
+            return;
+        }
+        double rate = sampleRate;
+        if (rate < 1.0 && ThreadLocalRandom.current().nextDouble() >= rate) {
+            return;
+        }
+
+        long seq = sequence.getAndIncrement();
+        ring.set((int) (seq & mask), new AuthTrace(seq, System.currentTimeMillis(),
+                method, uri, decision, tokenType, role, latencyMicros));
+    }
+
+    /**
+     * 링 버퍼의 새 기록을 로그로 출력 (요청 스레드 밖에서 실행)
+     */
+    @Scheduled(fixedDelayString = "${app.auth-trace.flush-millis:1000}")
+    public void drain() {
+        long upTo = sequence.get();
+        long from = Math.max(drainedUpTo, upTo - ring.length());
+        if (from > drainedUpTo) {
+            dropped.add(from - drainedUpTo);
+        }
+
+        long seq = from;
+        for (; seq < upTo; seq++) {
+            AuthTrace trace = ring.get((int) (seq & mask));
+            if (trace == null || trace.sequence() < seq) {
+                break; // 아직 기록 중 -> 다음 주기에 이어서 처리
+            }
+            if (trace.sequence() > seq) {
+                dropped.increment(); // 이미 덮어쓰여짐
+                continue;
+            }
+            log.info("[AUTH-TRACE] {} {} decision={} type={} role={} latency={}us",
+                    trace.method(), trace.uri(), trace.decision(),
+                    trace.tokenType(), trace.role(), trace.latencyMicros());
+        }
+        drainedUpTo = seq;
+    }
+
+    /**
+     * 최근 추적 기록 (최신순, 최대 limit 개)
+     */
+    public List<AuthTrace> recent(int limit) {
+        long upTo = sequence.get();
+        List<AuthTrace> result = new ArrayList<>();
+        for (long seq = upTo - 1; seq >= 0 && seq >= upTo - ring.length() && result.size() < limit; seq--) {
+            AuthTrace trace = ring.get((int) (seq & mask));
+            if (trace != null && trace.sequence() == seq) {
+                result.add(trace);
+            }
+        }
+        return result;
+    }
+
+    public Map<AuthDecision, Long> decisionCounts() {
+        Map<AuthDecision, Long> counts = new EnumMap<>(AuthDecision.class);
+        decisionCounts.forEach((decision, counter) -> counts.put(decision, counter.sum()));
+        return counts;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        log.info("인증 추적 {}", enabled ? "활성화" : "비활성화");
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = clamp(sampleRate);
+        log.info("인증 추적 샘플링 비율 변경: {}", this.sampleRate);
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    private static double clamp(double rate) {
+        return Math.max(0.0, Math.min(1.0, rate));
+    }
+}
@@ -0,0 +1,118 @@
+package com.petmate.common.sql;
+
+import com.petmate.config.TestS3Config;
+import com.petmate.domain.booking.repository.mybatis.BookingMapper;
+import com.petmate.domain.company.repository.CompanyRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청별 SQL 집계/허용치 검사 (SqlStatementCountingFilter)
+ * - 테스트 프로파일은 fail-on-exceed=true -> 허용치 초과 시 MockMvc perform 이 예외로 실패
+ * - 실제 서블릿 컨테이너에서는 검사 시점에 응답이 이미 전송되어 경고 로그로만 남음 (MockMvc 에서만 검증 가능)
+ * - JPA(StatementInspector)와 MyBatis(Interceptor) 실행이 모두 집계되는지 함께 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import({TestS3Config.class, SqlStatementCountingFilterTest.SqlBudgetTestController.class})
+@WithMockUser
+class SqlStatementCountingFilterTest {
+
+    // application-test.yml 의 app.sql-budget.max-statements(30) 초과
+    private static final int N_PLUS_ONE_QUERIES = 40;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void nPlusOneHandlerFailsWhenBudgetExceeded() {
+        Throwable thrown = catchThrowable(() -> mockMvc.perform(get("/test/sql-budget/n-plus-one")));
+
+        assertThat(NestedExceptionUtils.getMostSpecificCause(thrown))
+                .isInstanceOf(SqlBudgetExceededException.class)
+                .hasMessageContaining("SQL 실행 허용치 초과")
+                .hasMessageContaining("허용 30");
+    }
+
+    @Test
+    void sqlBudgetAnnotationRaisesLimit() throws Exception {
+        mockMvc.perform(get("/test/sql-budget/n-plus-one-allowed"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void countsJpaAndMyBatisStatements() throws Exception {
+        mockMvc.perform(get("/test/sql-budget/mixed"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jpa").value(2))
+                .andExpect(jsonPath("$.mybatis").value(1));
+    }
+
+    /**
+     * 의도적으로 N+1 을 만드는 테스트 전용 핸들러
+     */
+    @RestController
+    static class SqlBudgetTestController {
+
+        private final CompanyRepository companyRepository;
+        private final BookingMapper bookingMapper;
+
+        SqlBudgetTestController(CompanyRepository companyRepository, BookingMapper bookingMapper) {
+            this.companyRepository = companyRepository;
+            this.bookingMapper = bookingMapper;
+        }
+
+        @GetMapping("/test/sql-budget/n-plus-one")
+        public long nPlusOne() {
+            return repeatCount();
+        }
+
+        @SqlBudget(N_PLUS_ONE_QUERIES + 10)
+        @GetMapping("/test/sql-budget/n-plus-one-allowed")
+        public long nPlusOneAllowed() {
+            return repeatCount();
+        }
+
+        @GetMapping("/test/sql-budget/mixed")
+        public Map<String, Integer> mixed() {
+            SqlStatementStats stats = SqlStatementCounter.current();
+            int jpaBefore = stats.jpaStatements();
+            int mybatisBefore = stats.mybatisStatements();
+
+            companyRepository.count();
+            companyRepository.count();
+            bookingMapper.selectBookingSlotId(-1);
+
+            return Map.of(
+                    "jpa", stats.jpaStatements() - jpaBefore,
+                    "mybatis", stats.mybatisStatements() - mybatisBefore);
+        }
+
+        // 트랜잭션 없이 반복 조회 -> 호출마다 SQL 1회
+        private long repeatCount() {
+            long total = 0;
+            for (int i = 0; i < N_PLUS_ONE_QUERIES; i++) {
+                total += companyRepository.count();
+            }
+            return total;
+        }
+    }
+}
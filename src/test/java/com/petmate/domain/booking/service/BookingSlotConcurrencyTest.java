@@ -0,0 +1,123 @@
+package com.petmate.domain.booking.service;
+
+import com.petmate.config.TestS3Config;
+import com.petmate.domain.booking.dto.request.BookingCreateRequest;
+import com.petmate.domain.booking.dto.response.BookingResponseDto;
+import com.petmate.domain.product.entity.AvailabilitySlotEntity;
+import com.petmate.domain.product.repository.jpa.AvailabilitySlotRepository;
+import com.petmate.support.SlotTestFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.petmate.support.ConcurrencyTestSupport.runConcurrently;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 생성/취소 경로의 슬롯 좌석 정합성 검증 (서비스 계층)
+ * - createBooking: 예약 INSERT -> 좌석 선점 -> 마감이면 롤백 (예약 행 수 = booked = capacity)
+ * - 중복 취소: 같은 예약을 동시에 여러 번 취소해도 좌석은 한 번만 반환
+ * - 재활성화: 취소된 예약을 다시 확정하면 좌석 재선점, 마감이면 실패
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestS3Config.class)
+class BookingSlotConcurrencyTest {
+
+    private static final int THREADS = 32;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private AvailabilitySlotRepository slotRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SlotTestFixture fixture;
+
+    @BeforeEach
+    void loadFixtures() {
+        fixture = new SlotTestFixture(jdbcTemplate, slotRepository);
+        fixture.load();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        fixture.cleanUp();
+    }
+
+    @Test
+    void concurrentCreateBookingNeverOverbooks() throws Exception {
+        int capacity = 5;
+        AvailabilitySlotEntity slot = fixture.createSlot(capacity);
+
+        AtomicInteger succeeded = new AtomicInteger();
+        runConcurrently(THREADS, () -> {
+            if (bookingService.createBooking(request(slot)).isSuccess()) {
+                succeeded.incrementAndGet();
+            }
+        });
+
+        // 마감으로 실패한 요청의 예약 INSERT 는 롤백되어야 함
+        assertThat(succeeded.get()).isEqualTo(capacity);
+        assertThat(fixture.reservationCount(slot.getId())).isEqualTo(capacity);
+        assertThat(fixture.bookedCount(slot.getId())).isEqualTo(capacity);
+    }
+
+    @Test
+    void concurrentDoubleCancelReleasesSeatOnce() throws Exception {
+        AvailabilitySlotEntity slot = fixture.createSlot(3);
+
+        BookingResponseDto first = bookingService.createBooking(request(slot));
+        BookingResponseDto second = bookingService.createBooking(request(slot));
+        assertThat(first.isSuccess()).isTrue();
+        assertThat(second.isSuccess()).isTrue();
+        assertThat(fixture.bookedCount(slot.getId())).isEqualTo(2);
+
+        // 같은 예약을 동시에 여러 번 취소 -> 좌석은 1개만 반환되어 다른 예약의 좌석은 유지
+        runConcurrently(THREADS, () -> bookingService.cancelReservation(first.getId()));
+
+        assertThat(fixture.bookedCount(slot.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void reactivatingCancelledBookingReclaimsSeat() {
+        AvailabilitySlotEntity slot = fixture.createSlot(1);
+
+        BookingResponseDto first = bookingService.createBooking(request(slot));
+        assertThat(first.isSuccess()).isTrue();
+        bookingService.cancelReservation(first.getId());
+        assertThat(fixture.bookedCount(slot.getId())).isZero();
+
+        // 취소 -> 확정은 좌석을 다시 선점
+        assertThat(bookingService.confirmReservation(first.getId()).isSuccess()).isTrue();
+        assertThat(fixture.bookedCount(slot.getId())).isEqualTo(1);
+
+        // 다시 취소한 사이 다른 예약이 좌석을 가져가면 재활성화는 실패하고 좌석 수 유지
+        bookingService.cancelReservation(first.getId());
+        assertThat(bookingService.createBooking(request(slot)).isSuccess()).isTrue();
+        assertThat(bookingService.confirmReservation(first.getId()).isSuccess()).isFalse();
+        assertThat(fixture.bookedCount(slot.getId())).isEqualTo(1);
+    }
+
+    private BookingCreateRequest request(AvailabilitySlotEntity slot) {
+        return BookingCreateRequest.builder()
+                .ownerUserId(fixture.getOwnerUserId())
+                .companyId(fixture.getCompanyId())
+                .productId(fixture.getProductId())
+                .startDt(slot.getStartDt())
+                .endDt(slot.getEndDt())
+                .petCount(1)
+                .totalPrice(0)
+                .build();
+    }
+}
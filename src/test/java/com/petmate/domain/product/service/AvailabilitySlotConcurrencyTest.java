@@ -0,0 +1,100 @@
+package com.petmate.domain.product.service;
+
+import com.petmate.config.TestS3Config;
+import com.petmate.domain.product.repository.jpa.AvailabilitySlotRepository;
+import com.petmate.support.SlotTestFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.petmate.support.ConcurrencyTestSupport.runConcurrently;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 슬롯에 동시 예약이 몰릴 때 좌석 선점이 capacity 를 넘지 않는지 검증 (슬롯 계층, 예약 경로는 BookingSlotConcurrencyTest)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestS3Config.class)
+class AvailabilitySlotConcurrencyTest {
+
+    private static final int THREADS = 64;
+
+    @Autowired
+    private AvailabilitySlotService availabilitySlotService;
+
+    @Autowired
+    private AvailabilitySlotRepository slotRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SlotTestFixture fixture;
+
+    @BeforeEach
+    void loadFixtures() {
+        fixture = new SlotTestFixture(jdbcTemplate, slotRepository);
+        fixture.load();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        fixture.cleanUp();
+    }
+
+    @Test
+    void concurrentClaimsNeverExceedCapacity() throws Exception {
+        int capacity = 5;
+        Integer slotId = fixture.createSlot(capacity).getId();
+
+        AtomicInteger claimed = new AtomicInteger();
+        runConcurrently(THREADS, () -> {
+            if (availabilitySlotService.claimSeat(slotId)) {
+                claimed.incrementAndGet();
+            }
+        });
+
+        assertThat(claimed.get()).isEqualTo(capacity);
+        assertThat(fixture.bookedCount(slotId)).isEqualTo(capacity);
+    }
+
+    @Test
+    void concurrentClaimsAndReleasesKeepCountConsistent() throws Exception {
+        int capacity = 10;
+        Integer slotId = fixture.createSlot(capacity).getId();
+
+        // 절반은 선점 후 바로 반환, 절반은 선점만 수행
+        AtomicInteger held = new AtomicInteger();
+        AtomicInteger index = new AtomicInteger();
+        runConcurrently(THREADS, () -> {
+            boolean releaseAfterClaim = index.getAndIncrement() % 2 == 0;
+            if (availabilitySlotService.claimSeat(slotId)) {
+                if (releaseAfterClaim) {
+                    availabilitySlotService.releaseSeat(slotId);
+                } else {
+                    held.incrementAndGet();
+                }
+            }
+        });
+
+        int booked = fixture.bookedCount(slotId);
+        assertThat(booked).isEqualTo(held.get());
+        assertThat(booked).isLessThanOrEqualTo(capacity);
+    }
+
+    @Test
+    void releaseNeverGoesBelowZero() throws Exception {
+        Integer slotId = fixture.createSlot(3).getId();
+
+        runConcurrently(THREADS, () -> availabilitySlotService.releaseSeat(slotId));
+
+        assertThat(fixture.bookedCount(slotId)).isZero();
+    }
+}
@@ -0,0 +1,82 @@
+package com.petmate.support;
+
+import com.petmate.domain.product.entity.AvailabilitySlotEntity;
+import com.petmate.domain.product.repository.jpa.AvailabilitySlotRepository;
+import lombok.Getter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 슬롯 동시성 테스트용 데이터 준비/정리
+ * - FK 를 만족하도록 기존 사용자/상품을 사용 (없으면 테스트 건너뜀)
+ * - 생성한 슬롯과 그 슬롯의 예약은 cleanUp 에서 삭제
+ */
+public class SlotTestFixture {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AvailabilitySlotRepository slotRepository;
+    private final List<Integer> createdSlotIds = new ArrayList<>();
+
+    @Getter
+    private Integer ownerUserId;
+    @Getter
+    private Integer companyId;
+    @Getter
+    private Integer productId;
+
+    public SlotTestFixture(JdbcTemplate jdbcTemplate, AvailabilitySlotRepository slotRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.slotRepository = slotRepository;
+    }
+
+    public void load() {
+        List<Map<String, Object>> products = jdbcTemplate.queryForList("SELECT id, company_id FROM product LIMIT 1");
+        List<Integer> users = jdbcTemplate.queryForList("SELECT ID FROM USER LIMIT 1", Integer.class);
+        assumeTrue(!products.isEmpty() && !users.isEmpty(), "슬롯 테스트용 사용자/상품 데이터가 없습니다.");
+
+        productId = ((Number) products.get(0).get("id")).intValue();
+        companyId = ((Number) products.get(0).get("company_id")).intValue();
+        ownerUserId = users.get(0);
+    }
+
+    public AvailabilitySlotEntity createSlot(int capacity) {
+        // 같은 상품의 다른 슬롯과 시작일시가 겹치지 않도록 먼 미래의 임의 시각 사용
+        LocalDateTime start = LocalDateTime.now().plusYears(20).withNano(0).withSecond(0)
+                .plusMinutes(ThreadLocalRandom.current().nextInt(1, 500_000));
+        AvailabilitySlotEntity slot = slotRepository.save(AvailabilitySlotEntity.builder()
+                .companyId(companyId)
+                .productId(productId)
+                .slotDate(start.toLocalDate())
+                .startDt(start)
+                .endDt(start.plusHours(1))
+                .capacity(capacity)
+                .booked(0)
+                .build());
+        createdSlotIds.add(slot.getId());
+        return slot;
+    }
+
+    public int bookedCount(Integer slotId) {
+        return slotRepository.findById(slotId).orElseThrow().getBooked();
+    }
+
+    public int reservationCount(Integer slotId) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reservation WHERE SLOT_ID = ?", Integer.class, slotId);
+        return count != null ? count : 0;
+    }
+
+    public void cleanUp() {
+        for (Integer slotId : createdSlotIds) {
+            jdbcTemplate.update("DELETE FROM reservation WHERE SLOT_ID = ?", slotId);
+        }
+        slotRepository.deleteAllById(createdSlotIds);
+        createdSlotIds.clear();
+    }
+}